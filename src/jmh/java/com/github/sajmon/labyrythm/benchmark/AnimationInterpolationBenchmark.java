@@ -0,0 +1,51 @@
+package com.github.sajmon.labyrythm.benchmark;
+
+import com.github.sajmon.labyrythm.client.animation.AnimationLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// Keyframe lookup and interpolation for a single bone, as done by MinotaurModel for every
+// animated bone on every rendered frame.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationInterpolationBenchmark {
+    private static final String BONE = "Right Arm";
+
+    @Param({"2", "8", "32"})
+    public int keyframes;
+
+    @Param({"true", "false"})
+    public boolean loop;
+
+    private AnimationLoader.AnimationData animation;
+    private float progress;
+
+    @Setup
+    public void setup() {
+        animation = new AnimationLoader.AnimationData("attack", 0.75F, loop);
+
+        Map<Float, float[]> frames = new TreeMap<>();
+        for (int i = 0; i < keyframes; i++) {
+            float time = i / (float) Math.max(1, keyframes - 1);
+            frames.put(time, new float[]{i * 7.5F, -i * 2.0F, i * 0.5F});
+        }
+        animation.addBoneRotation(BONE, frames);
+        progress = 0.0F;
+    }
+
+    @Benchmark
+    public float[] interpolate() {
+        progress += 0.0137F;
+        if (progress > 1.5F) {
+            progress = 0.0F;
+        }
+        return animation.getInterpolatedRotation(BONE, progress);
+    }
+}
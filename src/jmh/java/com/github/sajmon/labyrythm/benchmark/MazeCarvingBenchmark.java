@@ -0,0 +1,29 @@
+package com.github.sajmon.labyrythm.benchmark;
+
+import com.github.sajmon.labyrythm.structures.pieces.MinotaursLabyrinthPieces;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Rotation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Carves full multi-level mazes through MinotaursLabyrinthPieces.planMaze. The seed is fixed so
+// every invocation carves the same layout and level count for a given size.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeCarvingBenchmark {
+    @Param({"25", "81", "1024", "10000", "100000"})
+    public int cells;
+
+    @Param({"42"})
+    public long seed;
+
+    @Benchmark
+    public MinotaursLabyrinthPieces.MazePlan carve() {
+        return MinotaursLabyrinthPieces.planMaze(Rotation.NONE, RandomSource.create(seed), cells);
+    }
+}
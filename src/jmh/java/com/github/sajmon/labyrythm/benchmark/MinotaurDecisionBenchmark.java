@@ -0,0 +1,61 @@
+package com.github.sajmon.labyrythm.benchmark;
+
+import com.github.sajmon.labyrythm.entity.MinotaurActivityMachine;
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Activity transitions used by MinotaurAi.updateActivity, fed with a fixed mix of perception
+// inputs (no target, unheard target, heard target near and far, pending sound). `update`
+// changes the inputs every step; `steady` repeats one step, which is the common case.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinotaurDecisionBenchmark {
+    private static final int INPUTS = 1024;
+    private static final int SOUND_POSITIONS = 4;
+
+    private final boolean[] hasTarget = new boolean[INPUTS];
+    private final double[] distanceSq = new double[INPUTS];
+    private final BlockPos[] sounds = new BlockPos[INPUTS];
+    private MinotaurActivityMachine machine;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        BlockPos[] positions = new BlockPos[SOUND_POSITIONS];
+        for (int i = 0; i < SOUND_POSITIONS; i++) {
+            positions[i] = new BlockPos(random.nextInt(64), 64, random.nextInt(64));
+        }
+        for (int i = 0; i < INPUTS; i++) {
+            // A target that was not heard is dropped before the machine sees it
+            boolean targetHeard = random.nextInt(4) != 0;
+            hasTarget[i] = random.nextBoolean() && targetHeard;
+            distanceSq[i] = random.nextDouble() * 400.0D;
+            sounds[i] = random.nextBoolean() ? positions[random.nextInt(SOUND_POSITIONS)] : null;
+        }
+        machine = new MinotaurActivityMachine();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void update(Blackhole blackhole) {
+        for (int i = 0; i < INPUTS; i++) {
+            blackhole.consume(machine.update(hasTarget[i], distanceSq[i], sounds[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void steady(Blackhole blackhole) {
+        for (int i = 0; i < INPUTS; i++) {
+            blackhole.consume(machine.update(hasTarget[0], distanceSq[0], sounds[0]));
+        }
+    }
+}
@@ -33,6 +33,59 @@ public class Config
             .comment("A list of items to log on common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), Config::validateItemName);
 
+    static {
+        BUILDER.push("performance");
+    }
+
+    private static final ModConfigSpec.IntValue PERF_SAMPLE_RATE = BUILDER
+            .comment("Time one in every N calls of an instrumented hot path (1 = time every call)")
+            .defineInRange("perfSampleRate", 16, 1, 4096);
+
+    private static final ModConfigSpec.IntValue PERF_LOG_INTERVAL = BUILDER
+            .comment("Ticks between perf counter dumps to the server log (0 = never)")
+            .defineInRange("perfLogIntervalTicks", 0, 0, Integer.MAX_VALUE);
+
+    static {
+        BUILDER.pop();
+        BUILDER.push("minotaur");
+    }
+
+    private static final ModConfigSpec.IntValue MINOTAUR_DORMANT_RADIUS = BUILDER
+            .comment("Minotaurs with no player inside their labyrinth or within this many blocks go dormant")
+            .defineInRange("dormantRadius", 48, 0, 512);
+
+    private static final ModConfigSpec.IntValue MINOTAUR_DORMANT_TICK_INTERVAL = BUILDER
+            .comment("Ticks between brain and vibration updates of a dormant minotaur (0 = fully suspended)")
+            .defineInRange("dormantTickInterval", 40, 0, 1200);
+
+    private static final ModConfigSpec.BooleanValue ADAPTIVE_MINOTAUR_AI = BUILDER
+            .comment("Run non-combat minotaur AI less often while the server is behind on ticks")
+            .define("adaptiveAi", true);
+
+    private static final ModConfigSpec.BooleanValue ASYNC_PATHFINDING = BUILDER
+            .comment("Compute minotaur paths on worker threads against a copy of the nearby blocks")
+            .define("asyncPathfinding", true);
+
+    private static final ModConfigSpec.IntValue PATHFINDING_THREADS = BUILDER
+            .comment("Worker threads for async minotaur pathfinding (takes effect on the next server start)")
+            .defineInRange("pathfindingThreads", 2, 1, 8);
+
+    private static final ModConfigSpec.BooleanValue LABYRINTH_ROUTING = BUILDER
+            .comment("Plan minotaur routes on the labyrinth's cell graph and path block by block only to the next cell")
+            .define("labyrinthRouting", true);
+
+    private static final ModConfigSpec.IntValue LABYRINTH_LEASH = BUILDER
+            .comment("Blocks past its labyrinth's bounds that a minotaur still perceives and paths into (-1 = no leash)")
+            .defineInRange("labyrinthLeash", 8, -1, 128);
+
+    private static final ModConfigSpec.BooleanValue ACOUSTIC_ROUTING = BUILDER
+            .comment("Deliver vibrations to labyrinth minotaurs by corridor distance through their labyrinth instead of per-minotaur listeners")
+            .define("acousticRouting", true);
+
+    static {
+        BUILDER.pop();
+    }
+
     static final ModConfigSpec SPEC = BUILDER.build();
 
     public static boolean logDirtBlock;
@@ -40,6 +93,18 @@ public class Config
     public static String magicNumberIntroduction;
     public static Set<Item> items;
 
+    public static int perfSampleRate = 16;
+    public static int perfLogIntervalTicks = 0;
+
+    public static int minotaurDormantRadius = 48;
+    public static int minotaurDormantTickInterval = 40;
+    public static boolean adaptiveMinotaurAi = true;
+    public static boolean asyncPathfinding = true;
+    public static int pathfindingThreads = 2;
+    public static boolean labyrinthRouting = true;
+    public static int labyrinthLeash = 8;
+    public static boolean acousticRouting = true;
+
     private static boolean validateItemName(final Object obj)
     {
         return obj instanceof String itemName && BuiltInRegistries.ITEM.containsKey(ResourceLocation.parse(itemName));
@@ -55,5 +120,17 @@ public class Config
         items = ITEM_STRINGS.get().stream()
                 .map(itemName -> BuiltInRegistries.ITEM.get(ResourceLocation.parse(itemName)))
                 .collect(Collectors.toSet());
+
+        perfSampleRate = PERF_SAMPLE_RATE.get();
+        perfLogIntervalTicks = PERF_LOG_INTERVAL.get();
+
+        minotaurDormantRadius = MINOTAUR_DORMANT_RADIUS.get();
+        minotaurDormantTickInterval = MINOTAUR_DORMANT_TICK_INTERVAL.get();
+        adaptiveMinotaurAi = ADAPTIVE_MINOTAUR_AI.get();
+        asyncPathfinding = ASYNC_PATHFINDING.get();
+        pathfindingThreads = PATHFINDING_THREADS.get();
+        labyrinthRouting = LABYRINTH_ROUTING.get();
+        labyrinthLeash = LABYRINTH_LEASH.get();
+        acousticRouting = ACOUSTIC_ROUTING.get();
     }
 }
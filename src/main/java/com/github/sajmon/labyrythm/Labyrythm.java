@@ -11,8 +11,11 @@ import com.github.sajmon.labyrythm.structures.pieces.ModStructurePieces;
 import com.github.sajmon.labyrythm.entity.ModEntityTypes;
 import com.github.sajmon.labyrythm.entity.MinotaurEntity;
 import com.github.sajmon.labyrythm.entity.ModActivities;
+import com.github.sajmon.labyrythm.entity.ModSensorTypes;
 import com.github.sajmon.labyrythm.event.ModEvents;
+import com.github.sajmon.labyrythm.network.ModNetwork;
 import com.github.sajmon.labyrythm.brewing.ModBrewingRecipes;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
 
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
@@ -37,12 +40,14 @@ public class Labyrythm
     {
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::registerAttributes);
+        modEventBus.addListener(ModNetwork::register);
 
         NeoForge.EVENT_BUS.register(this);
         NeoForge.EVENT_BUS.register(ModEvents.class);
         
         ModEntityTypes.register(modEventBus);
         ModActivities.register(modEventBus);
+        ModSensorTypes.register(modEventBus);
         
         ModItems.register(modEventBus);
         ModCreativeTabs.register(modEventBus);
@@ -60,6 +65,8 @@ public class Labyrythm
             // Register brewing recipes
             ModBrewingRecipes.register();
         });
+
+        LabyrythmPerf.registerJfrEvents();
     }
 
     @SubscribeEvent
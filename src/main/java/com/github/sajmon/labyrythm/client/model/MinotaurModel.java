@@ -1,6 +1,7 @@
 package com.github.sajmon.labyrythm.client.model;
 
 import com.github.sajmon.labyrythm.entity.MinotaurEntity;
+import com.github.sajmon.labyrythm.entity.MinotaurAnimationState;
 import com.github.sajmon.labyrythm.client.animation.AnimationLoader;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
@@ -131,27 +132,15 @@ public class MinotaurModel<T extends MinotaurEntity> extends EntityModel<T> impl
         this.leftLeg.yRot = 0;
         this.leftLeg.zRot = 0;
         
-        String animState = entity.getAnimationState();
+        MinotaurAnimationState animState = entity.getAnimationState();
         
         this.head.xRot += headPitch * ((float)Math.PI / 180F);
         this.head.yRot += netHeadYaw * ((float)Math.PI / 180F);
         
         switch (animState) {
-            case "idle":
-                applyIdleAnimation(ageInTicks);
-                break;
-            case "walk":
-                applyWalkAnimation(limbSwing, limbSwingAmount, ageInTicks);
-                break;
-            case "run":
-                applyRunAnimation(limbSwing, limbSwingAmount, ageInTicks);
-                break;
-            case "attack":
-                applyRunAnimation(limbSwing, limbSwingAmount, ageInTicks);
-                break;
-            default:
-                applyIdleAnimation(ageInTicks);
-                break;
+            case IDLE -> applyIdleAnimation(ageInTicks);
+            case WALK -> applyWalkAnimation(limbSwing, limbSwingAmount, ageInTicks);
+            case RUN, ATTACK -> applyRunAnimation(limbSwing, limbSwingAmount, ageInTicks);
         }
     }
 
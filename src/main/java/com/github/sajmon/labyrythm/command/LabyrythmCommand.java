@@ -0,0 +1,32 @@
+package com.github.sajmon.labyrythm.command;
+
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+public class LabyrythmCommand {
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("labyrythm")
+                .requires(source -> source.hasPermission(2))
+                .then(Commands.literal("perf")
+                        .executes(context -> showPerf(context.getSource()))
+                        .then(Commands.literal("reset")
+                                .executes(context -> resetPerf(context.getSource())))));
+    }
+
+    private static int showPerf(CommandSourceStack source) {
+        source.sendSuccess(() -> Component.literal("Labyrythm perf counters:"), false);
+        for (String line : LabyrythmPerf.report()) {
+            source.sendSuccess(() -> Component.literal(" " + line), false);
+        }
+        return 1;
+    }
+
+    private static int resetPerf(CommandSourceStack source) {
+        LabyrythmPerf.reset();
+        source.sendSuccess(() -> Component.literal("Labyrythm perf counters reset"), true);
+        return 1;
+    }
+}
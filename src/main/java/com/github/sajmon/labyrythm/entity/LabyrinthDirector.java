@@ -0,0 +1,288 @@
+package com.github.sajmon.labyrythm.entity;
+
+import com.github.sajmon.labyrythm.Config;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import com.github.sajmon.labyrythm.structures.LabyrinthLayout;
+import com.github.sajmon.labyrythm.structures.LabyrinthLayouts;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Shared state of every minotaur in one labyrinth. Players are scanned once per level tick
+// here instead of once per minotaur, and each occupant gets the result as a
+// MinotaurDecisionInput it can read without touching the level again.
+public class LabyrinthDirector {
+    private static final int DISTANCE_CACHE_SIZE = 64;
+
+    private final long labyrinthId;
+    private final StructureStart start;
+    private final LabyrinthLayout layout;
+    private final List<MinotaurEntity> occupants = new ArrayList<>();
+    // Players inside the leash that a minotaur may target
+    private final List<ServerPlayer> threats = new ArrayList<>();
+    // Players close enough to the labyrinth to keep an occupant awake
+    private final List<ServerPlayer> nearbyPlayers = new ArrayList<>();
+    // Where occupants heard something this tick
+    private final List<BlockPos> soundPositions = new ArrayList<>();
+    private boolean playerInside;
+    // Living entities in and around the labyrinth, shared by the occupants' sensors
+    private final List<LivingEntity> nearbyEntities = new ArrayList<>();
+    private long nearbyEntitiesTime = Long.MIN_VALUE;
+    // Game events of this tick by source cell, delivered along the corridors in tick()
+    private final Int2ObjectMap<QueuedGameEvent> pendingGameEvents = new Int2ObjectOpenHashMap<>();
+    // Game events of this tick outside the corridors but within earshot of a leashed occupant,
+    // by position. These are delivered by straight-line distance.
+    private final Long2ObjectMap<QueuedGameEvent> pendingOutsideEvents = new Long2ObjectOpenHashMap<>();
+    // Corridor distances from recent source cells, least recently used first
+    private final Int2ObjectLinkedOpenHashMap<int[]> cellDistances = new Int2ObjectLinkedOpenHashMap<>();
+
+    LabyrinthDirector(long labyrinthId, StructureStart start) {
+        this.labyrinthId = labyrinthId;
+        this.start = start;
+        this.layout = LabyrinthLayouts.get(start);
+    }
+
+    public long getLabyrinthId() {
+        return this.labyrinthId;
+    }
+
+    public LabyrinthLayout getLayout() {
+        return this.layout;
+    }
+
+    public List<MinotaurEntity> getOccupants() {
+        return this.occupants;
+    }
+
+    public List<ServerPlayer> getThreats() {
+        return this.threats;
+    }
+
+    // Rescanned at most once per sensor interval, however many occupants ask for it
+    public List<LivingEntity> getNearbyEntities(ServerLevel level) {
+        long gameTime = level.getGameTime();
+        if (gameTime - this.nearbyEntitiesTime >= LabyrinthOccupantSensor.SCAN_INTERVAL) {
+            this.nearbyEntitiesTime = gameTime;
+            this.nearbyEntities.clear();
+            AABB area = AABB.of(this.start.getBoundingBox()).inflate(LabyrinthOccupantSensor.SENSE_RANGE);
+            level.getEntities(EntityTypeTest.forClass(LivingEntity.class), area, LivingEntity::isAlive, this.nearbyEntities);
+        }
+        return this.nearbyEntities;
+    }
+
+    // Keeps one event per cell, or per position outside the corridors, and tick, preferring one
+    // a player caused
+    void queueGameEvent(BlockPos pos, Holder<GameEvent> event, GameEvent.Context context) {
+        if (this.occupants.isEmpty()) {
+            return;
+        }
+        int cell = this.layout.indexOf(pos);
+        boolean inCorridor = cell >= 0 && this.layout.isOccupied(cell);
+        if (!inCorridor) {
+            // Occupants stay within the leash, so nothing further out than that plus the hearing range can reach one
+            int reach = MinotaurEntity.VIBRATION_DETECTION_RANGE + Math.max(Config.labyrinthLeash, 0);
+            if (!this.start.getBoundingBox().inflatedBy(reach).isInside(pos)) {
+                return;
+            }
+        }
+        if (!this.occupants.get(0).getVibrationUser().isValidVibration(event, context)) {
+            return;
+        }
+
+        if (inCorridor) {
+            QueuedGameEvent queued = this.pendingGameEvents.get(cell);
+            if (prefers(queued, context)) {
+                this.pendingGameEvents.put(cell, new QueuedGameEvent(pos.immutable(), cell, event, context));
+            }
+        } else {
+            QueuedGameEvent queued = this.pendingOutsideEvents.get(pos.asLong());
+            if (prefers(queued, context)) {
+                this.pendingOutsideEvents.put(pos.asLong(), new QueuedGameEvent(pos.immutable(), -1, event, context));
+            }
+        }
+    }
+
+    private static boolean prefers(@Nullable QueuedGameEvent queued, GameEvent.Context context) {
+        return queued == null || (!(queued.context().sourceEntity() instanceof ServerPlayer) && context.sourceEntity() instanceof ServerPlayer);
+    }
+
+    // Corridor distance in blocks between two cells, or -1 when either is not a connected cell
+    private int getCorridorDistance(int fromCell, int toCell) {
+        if (fromCell < 0 || toCell < 0) {
+            return -1;
+        }
+
+        int[] distances = this.cellDistances.getAndMoveToLast(fromCell);
+        if (distances == null) {
+            distances = this.layout.getCellDistances(fromCell);
+            if (this.cellDistances.size() >= DISTANCE_CACHE_SIZE) {
+                this.cellDistances.removeFirst();
+            }
+            this.cellDistances.putAndMoveToLast(fromCell, distances);
+        }
+        int cells = distances[toCell];
+        return cells < 0 ? -1 : cells * LabyrinthLayout.CELL_SIZE;
+    }
+
+    void join(MinotaurEntity minotaur) {
+        if (!this.occupants.contains(minotaur)) {
+            this.occupants.add(minotaur);
+        }
+    }
+
+    boolean isEmpty() {
+        return this.occupants.isEmpty();
+    }
+
+    public void reportSound(BlockPos pos) {
+        this.soundPositions.add(pos.immutable());
+    }
+
+    void tick(ServerLevel level) {
+        this.occupants.removeIf(minotaur -> minotaur.isRemoved() || minotaur.level() != level
+                || minotaur.getDirector() != this);
+        if (this.occupants.isEmpty()) {
+            this.soundPositions.clear();
+            this.nearbyEntities.clear();
+            this.pendingGameEvents.clear();
+            this.pendingOutsideEvents.clear();
+            return;
+        }
+
+        routeGameEvents(level);
+        scanPlayers(level);
+
+        for (MinotaurEntity minotaur : this.occupants) {
+            minotaur.setDecisionInput(decide(minotaur));
+        }
+        this.soundPositions.clear();
+    }
+
+    // Each routed occupant gets the closest event of the tick by corridor distance, once.
+    // Walls between corridors block sound entirely instead of being raycast per listener.
+    // Events outside the corridors are measured in a straight line.
+    private void routeGameEvents(ServerLevel level) {
+        if (this.pendingGameEvents.isEmpty() && this.pendingOutsideEvents.isEmpty()) {
+            return;
+        }
+
+        long perfStart = LabyrythmPerf.begin(PerfSection.ACOUSTIC_ROUTE);
+        for (MinotaurEntity minotaur : this.occupants) {
+            if (!minotaur.isAcousticRouted()) {
+                continue;
+            }
+            int cell = this.layout.indexOf(minotaur.blockPosition());
+
+            QueuedGameEvent nearest = null;
+            int nearestDistance = MinotaurEntity.VIBRATION_DETECTION_RANGE + 1;
+            for (QueuedGameEvent event : this.pendingGameEvents.values()) {
+                // Occupants standing outside the corridors fall back to straight-line distance
+                int distance = cell >= 0 ? getCorridorDistance(event.cell(), cell)
+                        : Mth.floor(Math.sqrt(minotaur.distanceToSqr(event.pos().getCenter())));
+                if (distance >= 0 && distance < nearestDistance) {
+                    nearest = event;
+                    nearestDistance = distance;
+                }
+            }
+            for (QueuedGameEvent event : this.pendingOutsideEvents.values()) {
+                int distance = Mth.floor(Math.sqrt(minotaur.distanceToSqr(event.pos().getCenter())));
+                if (distance < nearestDistance) {
+                    nearest = event;
+                    nearestDistance = distance;
+                }
+            }
+
+            if (nearest != null) {
+                minotaur.receiveRoutedVibration(level, nearest.pos(), nearest.event(), nearest.context(),
+                        Math.max(nearestDistance, (float) Math.sqrt(minotaur.distanceToSqr(nearest.pos().getCenter()))));
+            }
+        }
+        this.pendingGameEvents.clear();
+        this.pendingOutsideEvents.clear();
+        LabyrythmPerf.end(PerfSection.ACOUSTIC_ROUTE, perfStart);
+    }
+
+    private void scanPlayers(ServerLevel level) {
+        this.threats.clear();
+        this.nearbyPlayers.clear();
+        this.playerInside = false;
+
+        BoundingBox leash = Config.labyrinthLeash >= 0 ? this.start.getBoundingBox().inflatedBy(Config.labyrinthLeash) : null;
+        // Occupants stay within the leash, so nothing further out than that plus the dormancy radius can be near one
+        BoundingBox near = this.start.getBoundingBox().inflatedBy(Config.minotaurDormantRadius + Math.max(Config.labyrinthLeash, 0));
+
+        for (ServerPlayer player : level.players()) {
+            if (player.isSpectator() || !player.isAlive()) {
+                continue;
+            }
+            BlockPos pos = player.blockPosition();
+            if (!near.isInside(pos)) {
+                continue;
+            }
+
+            this.nearbyPlayers.add(player);
+            if (this.layout.contains(pos)) {
+                this.playerInside = true;
+            }
+            if ((leash == null || leash.isInside(pos)) && EntitySelector.NO_CREATIVE_OR_SPECTATOR.test(player)
+                    && !player.isInvulnerable()) {
+                this.threats.add(player);
+            }
+        }
+    }
+
+    private MinotaurDecisionInput decide(MinotaurEntity minotaur) {
+        double radiusSqr = (double) Config.minotaurDormantRadius * Config.minotaurDormantRadius;
+        boolean playerNearby = this.playerInside;
+        for (int i = 0; i < this.nearbyPlayers.size() && !playerNearby; i++) {
+            playerNearby = minotaur.distanceToSqr(this.nearbyPlayers.get(i)) <= radiusSqr;
+        }
+
+        ServerPlayer nearestThreat = null;
+        double nearestThreatDistanceSqr = Double.MAX_VALUE;
+        for (ServerPlayer player : this.threats) {
+            double distanceSqr = minotaur.distanceToSqr(player);
+            if (distanceSqr < nearestThreatDistanceSqr && !minotaur.isAlliedTo(player)) {
+                nearestThreat = player;
+                nearestThreatDistanceSqr = distanceSqr;
+            }
+        }
+
+        BlockPos nearestSound = null;
+        double nearestSoundDistanceSqr = (double) MinotaurEntity.VIBRATION_DETECTION_RANGE * MinotaurEntity.VIBRATION_DETECTION_RANGE;
+        int cell = this.layout.indexOf(minotaur.blockPosition());
+        for (BlockPos soundPos : this.soundPositions) {
+            int corridorDistance = getCorridorDistance(this.layout.indexOf(soundPos), cell);
+            double distanceSqr = corridorDistance >= 0 ? (double) corridorDistance * corridorDistance
+                    : minotaur.distanceToSqr(soundPos.getCenter());
+            if (distanceSqr <= nearestSoundDistanceSqr) {
+                nearestSound = soundPos;
+                nearestSoundDistanceSqr = distanceSqr;
+            }
+        }
+
+        return new MinotaurDecisionInput(playerNearby, nearestThreat, nearestThreatDistanceSqr, nearestSound);
+    }
+
+    private record QueuedGameEvent(BlockPos pos, int cell, Holder<GameEvent> event, GameEvent.Context context) {
+    }
+}
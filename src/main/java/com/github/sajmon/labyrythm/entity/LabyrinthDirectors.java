@@ -0,0 +1,59 @@
+package com.github.sajmon.labyrythm.entity;
+
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// One LabyrinthDirector per labyrinth that has minotaurs ticking in it, keyed by labyrinth id.
+// Directors without occupants are dropped on their next tick. Server thread only.
+public class LabyrinthDirectors {
+    private static final Map<ServerLevel, Long2ObjectMap<LabyrinthDirector>> DIRECTORS = new WeakHashMap<>();
+
+    static LabyrinthDirector join(ServerLevel level, long labyrinthId, StructureStart start, MinotaurEntity minotaur) {
+        LabyrinthDirector director = DIRECTORS.computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(labyrinthId, id -> new LabyrinthDirector(id, start));
+        director.join(minotaur);
+        return director;
+    }
+
+    public static void tick(ServerLevel level) {
+        Long2ObjectMap<LabyrinthDirector> directors = DIRECTORS.get(level);
+        if (directors == null || directors.isEmpty()) {
+            return;
+        }
+
+        long perfStart = LabyrythmPerf.begin(PerfSection.DIRECTOR_TICK);
+        directors.values().removeIf(director -> {
+            director.tick(level);
+            return director.isEmpty();
+        });
+        LabyrythmPerf.end(PerfSection.DIRECTOR_TICK, perfStart);
+    }
+
+    // Queued on each director whose maze is within earshot and delivered on its next tick
+    public static void onGameEvent(ServerLevel level, Holder<GameEvent> event, Vec3 pos, GameEvent.Context context) {
+        Long2ObjectMap<LabyrinthDirector> directors = DIRECTORS.get(level);
+        if (directors == null || directors.isEmpty()) {
+            return;
+        }
+
+        BlockPos blockPos = BlockPos.containing(pos);
+        for (LabyrinthDirector director : directors.values()) {
+            director.queueGameEvent(blockPos, event, context);
+        }
+    }
+
+    public static void clear() {
+        DIRECTORS.clear();
+    }
+}
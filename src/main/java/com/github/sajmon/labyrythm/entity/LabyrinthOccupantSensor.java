@@ -0,0 +1,51 @@
+package com.github.sajmon.labyrythm.entity;
+
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.ai.memory.NearestVisibleLivingEntities;
+import net.minecraft.world.entity.ai.sensing.Sensor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+// Fills the standard nearest living entity memories. Minotaurs in a labyrinth filter the
+// director's shared entity scan; only minotaurs outside one query the level themselves.
+public class LabyrinthOccupantSensor extends Sensor<MinotaurEntity> {
+    public static final int SCAN_INTERVAL = 10;
+    public static final double SENSE_RANGE = 16.0D;
+
+    public LabyrinthOccupantSensor() {
+        super(SCAN_INTERVAL);
+    }
+
+    @Override
+    public Set<MemoryModuleType<?>> requires() {
+        return ImmutableSet.of(MemoryModuleType.NEAREST_LIVING_ENTITIES, MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES);
+    }
+
+    @Override
+    protected void doTick(ServerLevel level, MinotaurEntity minotaur) {
+        LabyrinthDirector director = minotaur.getDirector();
+        List<LivingEntity> candidates = director != null
+                ? director.getNearbyEntities(level)
+                : level.getEntitiesOfClass(LivingEntity.class, minotaur.getBoundingBox().inflate(SENSE_RANGE), LivingEntity::isAlive);
+
+        double rangeSqr = SENSE_RANGE * SENSE_RANGE;
+        List<LivingEntity> nearest = new ArrayList<>();
+        for (LivingEntity entity : candidates) {
+            if (entity != minotaur && entity.isAlive() && entity.level() == level && minotaur.distanceToSqr(entity) <= rangeSqr) {
+                nearest.add(entity);
+            }
+        }
+        nearest.sort(Comparator.comparingDouble(minotaur::distanceToSqr));
+
+        Brain<?> brain = minotaur.getBrain();
+        brain.setMemory(MemoryModuleType.NEAREST_LIVING_ENTITIES, nearest);
+        brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES, new NearestVisibleLivingEntities(minotaur, nearest));
+    }
+}
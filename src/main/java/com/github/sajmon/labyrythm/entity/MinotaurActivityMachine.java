@@ -0,0 +1,126 @@
+package com.github.sajmon.labyrythm.entity;
+
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// Activity selection as a transition table over perception changes. update() compares the
+// minotaur's perception with the previous step and only fires triggers for what changed, so
+// a step where nothing changed costs a few comparisons and touches no brain memories.
+public class MinotaurActivityMachine {
+    private static final MinotaurActivityState[] STATES = MinotaurActivityState.values();
+
+    public enum Trigger {
+        TARGET_ACQUIRED,
+        TARGET_LOST,
+        SOUND_HEARD,
+        SOUND_FORGOTTEN,
+        ENTERED_ATTACK_RANGE,
+        LEFT_ATTACK_RANGE
+    }
+
+    private static final Trigger[] TRIGGERS = Trigger.values();
+
+    // [state][trigger] -> next state; null keeps the current state without running its entry
+    private static final MinotaurActivityState[][] TRANSITIONS = new MinotaurActivityState[STATES.length][TRIGGERS.length];
+    private static final LongAdder[] TRANSITION_COUNTS = new LongAdder[STATES.length * STATES.length];
+
+    static {
+        for (MinotaurActivityState state : new MinotaurActivityState[]{MinotaurActivityState.IDLE, MinotaurActivityState.PATROL}) {
+            on(state, Trigger.TARGET_ACQUIRED, MinotaurActivityState.CHASE);
+            on(state, Trigger.SOUND_HEARD, MinotaurActivityState.INVESTIGATE);
+        }
+
+        on(MinotaurActivityState.INVESTIGATE, Trigger.TARGET_ACQUIRED, MinotaurActivityState.CHASE);
+        // A new sound position re-enters INVESTIGATE to walk towards it
+        on(MinotaurActivityState.INVESTIGATE, Trigger.SOUND_HEARD, MinotaurActivityState.INVESTIGATE);
+        on(MinotaurActivityState.INVESTIGATE, Trigger.SOUND_FORGOTTEN, MinotaurActivityState.PATROL);
+
+        on(MinotaurActivityState.CHASE, Trigger.TARGET_LOST, MinotaurActivityState.PATROL);
+        on(MinotaurActivityState.CHASE, Trigger.ENTERED_ATTACK_RANGE, MinotaurActivityState.ATTACK);
+
+        on(MinotaurActivityState.ATTACK, Trigger.TARGET_LOST, MinotaurActivityState.PATROL);
+        on(MinotaurActivityState.ATTACK, Trigger.LEFT_ATTACK_RANGE, MinotaurActivityState.CHASE);
+
+        for (int i = 0; i < TRANSITION_COUNTS.length; i++) {
+            TRANSITION_COUNTS[i] = new LongAdder();
+        }
+    }
+
+    private static void on(MinotaurActivityState from, Trigger trigger, MinotaurActivityState to) {
+        TRANSITIONS[from.ordinal()][trigger.ordinal()] = to;
+    }
+
+    private MinotaurActivityState state = MinotaurActivityState.PATROL;
+    private boolean hadTarget = false;
+    private boolean wasInAttackRange = false;
+    @Nullable
+    private BlockPos lastSound = null;
+
+    public MinotaurActivityState getState() {
+        return this.state;
+    }
+
+    // Returns the state to enter when any transition fired this step, otherwise null
+    @Nullable
+    public MinotaurActivityState update(boolean hasTarget, double targetDistanceSq, @Nullable BlockPos soundPos) {
+        boolean inAttackRange = hasTarget && targetDistanceSq <= MinotaurActivityState.ATTACK_RANGE_SQR;
+        boolean soundChanged = soundPos != null && !soundPos.equals(this.lastSound);
+        boolean soundForgotten = soundPos == null && this.lastSound != null;
+        MinotaurActivityState entered = null;
+
+        if (hasTarget != this.hadTarget) {
+            entered = fire(hasTarget ? Trigger.TARGET_ACQUIRED : Trigger.TARGET_LOST, entered);
+            // A sound still tracked when the target goes is announced again to the calmer state
+            if (!hasTarget && soundPos != null) {
+                soundChanged = true;
+            }
+        }
+        if (inAttackRange != this.wasInAttackRange) {
+            entered = fire(inAttackRange ? Trigger.ENTERED_ATTACK_RANGE : Trigger.LEFT_ATTACK_RANGE, entered);
+        }
+        if (soundChanged) {
+            entered = fire(Trigger.SOUND_HEARD, entered);
+        } else if (soundForgotten) {
+            entered = fire(Trigger.SOUND_FORGOTTEN, entered);
+        }
+
+        this.hadTarget = hasTarget;
+        this.wasInAttackRange = inAttackRange;
+        this.lastSound = soundPos;
+        return entered;
+    }
+
+    @Nullable
+    private MinotaurActivityState fire(Trigger trigger, @Nullable MinotaurActivityState entered) {
+        MinotaurActivityState next = TRANSITIONS[this.state.ordinal()][trigger.ordinal()];
+        if (next == null) {
+            return entered;
+        }
+        TRANSITION_COUNTS[this.state.ordinal() * STATES.length + next.ordinal()].increment();
+        this.state = next;
+        return next;
+    }
+
+    public static void resetCounters() {
+        for (LongAdder count : TRANSITION_COUNTS) {
+            count.reset();
+        }
+    }
+
+    public static String report() {
+        StringBuilder builder = new StringBuilder("minotaur_transitions:");
+        for (MinotaurActivityState from : STATES) {
+            for (MinotaurActivityState to : STATES) {
+                long count = TRANSITION_COUNTS[from.ordinal() * STATES.length + to.ordinal()].sum();
+                if (count > 0) {
+                    builder.append(String.format(Locale.ROOT, " %s->%s=%d",
+                            from.name().toLowerCase(Locale.ROOT), to.name().toLowerCase(Locale.ROOT), count));
+                }
+            }
+        }
+        return builder.toString();
+    }
+}
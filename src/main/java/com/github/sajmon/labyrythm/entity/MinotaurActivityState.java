@@ -0,0 +1,25 @@
+package com.github.sajmon.labyrythm.entity;
+
+import net.minecraft.world.entity.schedule.Activity;
+
+// States of MinotaurActivityMachine. Kept free of registry lookups in its static state so
+// the transition table can be exercised without a running game.
+public enum MinotaurActivityState {
+    IDLE,
+    PATROL,
+    INVESTIGATE,
+    CHASE,
+    ATTACK;
+
+    public static final double ATTACK_RANGE_SQR = 3.5D;
+
+    public Activity toActivity() {
+        return switch (this) {
+            case IDLE -> Activity.IDLE;
+            case PATROL -> ModActivities.PATROL.get();
+            case INVESTIGATE -> ModActivities.INVESTIGATE.get();
+            case CHASE -> ModActivities.CHASE.get();
+            case ATTACK -> ModActivities.ATTACK.get();
+        };
+    }
+}
@@ -1,34 +1,40 @@
 package com.github.sajmon.labyrythm.entity;
 
+import com.github.sajmon.labyrythm.perf.MinotaurActivityEvent;
 import com.google.common.collect.ImmutableList;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Dynamic;
 import org.slf4j.Logger;
 import net.minecraft.core.BlockPos;
-import net.minecraft.util.Mth;
-import net.minecraft.util.RandomSource;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.behavior.*;
 import net.minecraft.world.entity.ai.behavior.declarative.BehaviorBuilder;
+import net.minecraft.world.entity.ai.memory.ExpirableValue;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.memory.WalkTarget;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.schedule.Activity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class MinotaurAi {
     private static final float PATROL_WALK_SPEED = MinotaurEntity.PATROL_WALK_SPEED;
     private static final float INVESTIGATE_WALK_SPEED = MinotaurEntity.INVESTIGATE_WALK_SPEED;
     private static final float CHASE_WALK_SPEED = MinotaurEntity.CHASE_WALK_SPEED;
+    private static final double SENSED_TARGET_RANGE_SQR = 9.0D;
 
     private static final List<MemoryModuleType<?>> MEMORY_TYPES = List.of(
             MemoryModuleType.PATH,
             MemoryModuleType.WALK_TARGET,
             MemoryModuleType.LOOK_TARGET,
             MemoryModuleType.ATTACK_TARGET,
+            MemoryModuleType.NEAREST_LIVING_ENTITIES,
             MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES,
             MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE,
             MemoryModuleType.HEARD_BELL_TIME,
@@ -42,7 +48,7 @@ public class MinotaurAi {
     protected static final Activity ATTACK = ModActivities.ATTACK.get();
     
     public static Brain<?> makeBrain(MinotaurEntity minotaur, Dynamic<?> dynamic) {
-        Brain.Provider<MinotaurEntity> provider = Brain.provider(MEMORY_TYPES, ImmutableList.of());
+        Brain.Provider<MinotaurEntity> provider = Brain.provider(MEMORY_TYPES, ImmutableList.of(ModSensorTypes.LABYRINTH_OCCUPANTS.get()));
         Brain<MinotaurEntity> brain = provider.makeBrain(dynamic);
         
         initIdleActivity(brain);
@@ -58,62 +64,105 @@ public class MinotaurAi {
     }
     
     public static void updateActivity(MinotaurEntity minotaur) {
+        ProfilerFiller profiler = minotaur.level().getProfiler();
+        profiler.push("minotaurActivityUpdate");
+        MinotaurActivityEvent jfrEvent = new MinotaurActivityEvent();
+        jfrEvent.begin();
+
         Brain<MinotaurEntity> brain = minotaur.getBrain();
-        
-        Optional<Activity> currentActivityOpt = brain.getActiveNonCoreActivity();
-        Activity currentActivity = currentActivityOpt.orElse(null);
-        
-        if (currentActivity == null) {
-            List<Activity> possibleActivities = List.of(ATTACK, CHASE, INVESTIGATE, PATROL, IDLE);
-            for (Activity activity : possibleActivities) {
-                if (brain.isActive(activity)) {
-                    currentActivity = activity;
-                    break;
+        acquireSensedTarget(minotaur, brain);
+        Activity currentActivity = brain.getActiveNonCoreActivity().orElse(null);
+
+        boolean hasTarget = hasAttackTarget(minotaur);
+        if (hasTarget && !minotaur.wasTargetPerceived()) {
+            // Target was neither heard nor sensed up close, drop it
+            minotaur.setTarget(null);
+            brain.eraseMemory(MemoryModuleType.ATTACK_TARGET);
+            hasTarget = false;
+        }
+        double distanceSq = hasTarget ? minotaur.distanceToSqr(minotaur.getTarget()) : Double.MAX_VALUE;
+
+        MinotaurActivityMachine machine = minotaur.getActivityMachine();
+        MinotaurActivityState entered = machine.update(hasTarget, distanceSq, minotaur.getLastSoundPosition());
+        MinotaurActivityState state = machine.getState();
+        Activity newActivity = state.toActivity();
+
+        // Other code paths switch activities directly; re-enter the machine's state if they did
+        if (entered != null || !brain.isActive(newActivity)) {
+            enterState(minotaur, brain, state);
+            minotaur.applyActivitySpeed(brain.getActiveNonCoreActivity().orElse(null));
+        }
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.entityId = minotaur.getId();
+            jfrEvent.previousActivity = currentActivity != null ? currentActivity.getName() : "none";
+            jfrEvent.activity = newActivity.getName();
+            jfrEvent.targetDistance = minotaur.getTargetDistance();
+            jfrEvent.commit();
+        }
+        profiler.pop();
+    }
+    
+    // Memory TTLs only count down inside Brain.tick. Steps that skip it still age the memories
+    // once per tick, the way vanilla forgets them, so cooldowns keep their length in game time.
+    public static void tickMemoryExpiry(Brain<?> brain) {
+        for (Map.Entry<MemoryModuleType<?>, Optional<? extends ExpirableValue<?>>> entry : brain.getMemories().entrySet()) {
+            if (entry.getValue().isPresent()) {
+                ExpirableValue<?> value = entry.getValue().get();
+                if (value.hasExpired()) {
+                    brain.eraseMemory(entry.getKey());
                 }
+                value.tick();
             }
         }
-        
-        Activity newActivity = null;
-        
-        if (hasAttackTarget(minotaur)) {
-            LivingEntity target = minotaur.getTarget();
-            assert target != null;
-            double distanceSq = minotaur.distanceToSqr(target);
-            
-            if (minotaur.wasTargetDetectedByVibration()) {
-                if (distanceSq <= 3.5) {
-                    brain.setActiveActivityIfPossible(ATTACK);
-                    newActivity = ATTACK;
-                } else {
-                    brain.setActiveActivityIfPossible(CHASE);
-                    newActivity = CHASE;
-                    minotaur.setChasing(true);
+    }
+
+    private static void enterState(MinotaurEntity minotaur, Brain<MinotaurEntity> brain, MinotaurActivityState state) {
+        switch (state) {
+            case ATTACK -> brain.setActiveActivityIfPossible(ATTACK);
+            case CHASE -> {
+                brain.setActiveActivityIfPossible(CHASE);
+                minotaur.setChasing(true);
+            }
+            case INVESTIGATE -> {
+                brain.setActiveActivityIfPossible(INVESTIGATE);
+                minotaur.setChasing(false);
+
+                BlockPos soundPos = minotaur.getLastSoundPosition();
+                if (soundPos != null) {
+                    brain.setMemory(MemoryModuleType.WALK_TARGET, new WalkTarget(soundPos, 1.2F, 1));
                 }
-            } else {
-                minotaur.setTarget(null);
+            }
+            default -> {
                 minotaur.setChasing(false);
-                brain.eraseMemory(MemoryModuleType.ATTACK_TARGET);
+                brain.eraseMemory(MemoryModuleType.WALK_TARGET);
                 brain.setActiveActivityIfPossible(PATROL);
-                newActivity = PATROL;
+                brain.setDefaultActivity(PATROL);
             }
-        } else if (minotaur.getLastSoundPosition() != null) {
-            brain.setActiveActivityIfPossible(INVESTIGATE);
-            newActivity = INVESTIGATE;
-            minotaur.setChasing(false);
-            
-            BlockPos soundPos = minotaur.getLastSoundPosition();
-            WalkTarget target = new WalkTarget(soundPos, 1.2F, 1);
-            
-            brain.setMemory(MemoryModuleType.WALK_TARGET, target);
-        } else {
-            minotaur.setChasing(false);
-            brain.eraseMemory(MemoryModuleType.WALK_TARGET);
-            brain.setActiveActivityIfPossible(PATROL);
-            brain.setDefaultActivity(PATROL);
-            newActivity = PATROL;
         }
     }
-    
+
+    // Minotaurs hunt by sound, but nothing sneaks past one close enough to touch
+    private static void acquireSensedTarget(MinotaurEntity minotaur, Brain<MinotaurEntity> brain) {
+        if (minotaur.getTarget() != null) {
+            return;
+        }
+        // The director already found the nearest targetable player, so only that one is checked
+        MinotaurDecisionInput input = minotaur.getDecisionInput();
+        if (input != null) {
+            ServerPlayer threat = input.nearestThreat();
+            if (threat != null && input.nearestThreatDistanceSqr() <= SENSED_TARGET_RANGE_SQR
+                    && minotaur.canTargetEntity(threat) && minotaur.hasLineOfSight(threat)) {
+                minotaur.onSensedTarget(threat);
+            }
+            return;
+        }
+        brain.getMemory(MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES)
+                .flatMap(visible -> visible.findClosest(entity -> entity instanceof Player
+                        && minotaur.distanceToSqr(entity) <= SENSED_TARGET_RANGE_SQR && minotaur.canTargetEntity(entity)))
+                .ifPresent(minotaur::onSensedTarget);
+    }
+
     private static boolean hasAttackTarget(MinotaurEntity minotaur) {
         return minotaur.getTarget() != null && minotaur.getTarget().isAlive();
     }
@@ -142,7 +191,7 @@ public class MinotaurAi {
     private static void initInvestigateActivity(Brain<MinotaurEntity> brain) {
         brain.addActivity(INVESTIGATE, ImmutableList.of(
             Pair.of(0, createInvestigateSoundGoal()), 
-            Pair.of(1, new MoveToTargetSink(20, 40)),
+            Pair.of(1, createFollowWalkTargetGoal()),
             Pair.of(2, SetWalkTargetFromLookTarget.create(INVESTIGATE_WALK_SPEED, 2))
         ));
     }
@@ -166,13 +215,10 @@ public class MinotaurAi {
                 instance.registered(MemoryModuleType.WALK_TARGET)
             ).apply(instance, (walkTarget) -> {
                 return (level, entity, gameTime) -> {
-                    RandomSource random = entity.getRandom();
-                    
-                    int x = Mth.randomBetweenInclusive(random, -20, 20);
-                    int y = Mth.randomBetweenInclusive(random, -2, 2);
-                    int z = Mth.randomBetweenInclusive(random, -20, 20);
-                    
-                    BlockPos targetPos = entity.blockPosition().offset(x, y, z);
+                    BlockPos targetPos = entity.findPatrolWaypoint();
+                    if (targetPos == null) {
+                        return false;
+                    }
                     
                     WalkTarget target = new WalkTarget(targetPos, PATROL_WALK_SPEED, 1);
                     
@@ -205,6 +251,41 @@ public class MinotaurAi {
         });
     }
     
+    // Stands in for MoveToTargetSink so the walk target is pathed through MinotaurPathRequests
+    // and its backoff, instead of a search of its own every time the behaviour starts
+    private static BehaviorControl<MinotaurEntity> createFollowWalkTargetGoal() {
+        return BehaviorBuilder.create((instance) -> {
+            return instance.group(
+                instance.present(MemoryModuleType.WALK_TARGET),
+                instance.registered(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE)
+            ).apply(instance, (walkTarget, cantReachSince) -> {
+                return (level, entity, gameTime) -> {
+                    Brain<MinotaurEntity> brain = entity.getBrain();
+                    WalkTarget target = brain.getMemory(MemoryModuleType.WALK_TARGET).get();
+                    BlockPos targetPos = target.getTarget().currentBlockPosition();
+
+                    if (targetPos.distManhattan(entity.blockPosition()) <= target.getCloseEnoughDist()) {
+                        brain.eraseMemory(MemoryModuleType.WALK_TARGET);
+                        brain.eraseMemory(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE);
+                        return true;
+                    }
+
+                    if (entity.getPathRequests().request(targetPos, target.getSpeedModifier())) {
+                        brain.eraseMemory(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE);
+                        return true;
+                    }
+
+                    // Unreachable or backed off; give the target up like MoveToTargetSink would
+                    brain.eraseMemory(MemoryModuleType.WALK_TARGET);
+                    if (!brain.hasMemoryValue(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE)) {
+                        brain.setMemory(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE, gameTime);
+                    }
+                    return true;
+                };
+            });
+        });
+    }
+
     private static BehaviorControl<MinotaurEntity> createDashAttackGoal() {
         return BehaviorBuilder.create((instance) -> {
             return instance.group(
@@ -225,7 +306,7 @@ public class MinotaurAi {
                     
                     double distance = entity.distanceTo(target);
                     
-                    if (distance >= 5.0 && distance <= 60.0) {
+                    if (distance >= 5.0 && distance <= 60.0 && entity.isEntityTicking(target.blockPosition())) {
                         entity.startDashToTarget();
                         entity.getBrain().setMemoryWithExpiry(MemoryModuleType.ATTACK_COOLING_DOWN, true, 200L);
                         return true;
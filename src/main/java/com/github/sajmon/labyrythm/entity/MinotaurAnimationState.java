@@ -0,0 +1,24 @@
+package com.github.sajmon.labyrythm.entity;
+
+public enum MinotaurAnimationState {
+    IDLE((byte) 0),
+    WALK((byte) 1),
+    RUN((byte) 2),
+    ATTACK((byte) 3);
+
+    private static final MinotaurAnimationState[] BY_ID = values();
+
+    private final byte id;
+
+    MinotaurAnimationState(byte id) {
+        this.id = id;
+    }
+
+    public byte getId() {
+        return this.id;
+    }
+
+    public static MinotaurAnimationState byId(byte id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : IDLE;
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.sajmon.labyrythm.entity;
+
+// Horizontal travel of a dash launched along the ground. Each tick LivingEntity.travel moves
+// the minotaur by its velocity and then keeps block friction times air drag of it, 0.6 * 0.91
+// on ordinary blocks, so the distance covered is a geometric series of the launch velocity.
+// Server and clients both predict the dash from this, so it has no Minecraft dependencies.
+public class MinotaurDashMotion {
+    public static final double GROUND_FRICTION = 0.546D;
+
+    // Multiple of the launch velocity covered after the given number of ticks
+    public static double travelFactor(int ticks) {
+        return (1.0D - Math.pow(GROUND_FRICTION, ticks)) / (1.0D - GROUND_FRICTION);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.sajmon.labyrythm.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.Nullable;
+
+// What a labyrinth director worked out for one minotaur during the last level tick
+public record MinotaurDecisionInput(boolean playerNearby,
+                                    @Nullable ServerPlayer nearestThreat,
+                                    double nearestThreatDistanceSqr,
+                                    @Nullable BlockPos nearestSound) {
+}
@@ -1,20 +1,43 @@
 package com.github.sajmon.labyrythm.entity;
 
+import com.github.sajmon.labyrythm.Config;
+import com.github.sajmon.labyrythm.Labyrythm;
 import com.github.sajmon.labyrythm.client.animation.AnimationLoader;
 import com.github.sajmon.labyrythm.item.MinotaursResonanceItem;
+import com.github.sajmon.labyrythm.network.DashStartPayload;
+import com.github.sajmon.labyrythm.pathfinding.AsyncPathfinder;
+import com.github.sajmon.labyrythm.pathfinding.PathRegionSnapshot;
+import com.github.sajmon.labyrythm.pathfinding.PathRequest;
+import com.github.sajmon.labyrythm.pathfinding.PathfindingMob;
+import com.github.sajmon.labyrythm.perf.AiLoadController;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.MinotaurBrainEvent;
+import com.github.sajmon.labyrythm.perf.MinotaurTickEvent;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import com.github.sajmon.labyrythm.perf.VibrationTickEvent;
+import com.github.sajmon.labyrythm.structures.LabyrinthFlowFields;
+import com.github.sajmon.labyrythm.structures.LabyrinthLayout;
+import com.github.sajmon.labyrythm.structures.LabyrinthLayouts;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializers;
 import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.AbortableIterationConsumer;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.damagesource.DamageSource;
@@ -22,40 +45,54 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.memory.WalkTarget;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.ai.navigation.WallClimberNavigation;
+import net.minecraft.world.entity.ai.util.LandRandomPos;
 import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.entity.schedule.Activity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.level.gameevent.DynamicGameEventListener;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.level.gameevent.PositionSource;
 import net.minecraft.world.level.gameevent.vibrations.VibrationSystem;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
 import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 public class MinotaurEntity extends Monster implements NeutralMob, VibrationSystem {
     private static final EntityDataAccessor<Integer> ANGER_LEVEL = SynchedEntityData.defineId(MinotaurEntity.class, EntityDataSerializers.INT);
     private static final EntityDataAccessor<Boolean> IS_DASHING = SynchedEntityData.defineId(MinotaurEntity.class, EntityDataSerializers.BOOLEAN);
     private static final EntityDataAccessor<Boolean> IS_CHASING = SynchedEntityData.defineId(MinotaurEntity.class, EntityDataSerializers.BOOLEAN);
-    private static final EntityDataAccessor<Integer> ATTACK_TIME = SynchedEntityData.defineId(MinotaurEntity.class, EntityDataSerializers.INT);
+    // Movement animation only; the attack overlay is timed locally from ATTACK_EVENT_ID
+    private static final EntityDataAccessor<Byte> ANIMATION_STATE = SynchedEntityData.defineId(MinotaurEntity.class, EntityDataSerializers.BYTE);
 
     public static final double BASE_MOVEMENT_SPEED = 0.25D;
     public static final float PATROL_SPEED_MULTIPLIER = 1.5f;
@@ -65,48 +102,96 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
     public static final float INVESTIGATE_WALK_SPEED = 1.3F;
     public static final float CHASE_WALK_SPEED = 1.6F;
 
+    private static final ResourceLocation PATROL_SPEED_ID = ResourceLocation.fromNamespaceAndPath(Labyrythm.MOD_ID, "minotaur_patrol_speed");
+    private static final ResourceLocation INVESTIGATE_SPEED_ID = ResourceLocation.fromNamespaceAndPath(Labyrythm.MOD_ID, "minotaur_investigate_speed");
+    private static final ResourceLocation CHASE_SPEED_ID = ResourceLocation.fromNamespaceAndPath(Labyrythm.MOD_ID, "minotaur_chase_speed");
+
     public static final double DASH_FORCE = 2.5D;
     public static final int DASH_DURATION_TICKS = 20;
+    private static final double DASH_CORRECTION_DISTANCE_SQR = 1.0D;
     public static final int DASH_COOLDOWN_TICKS = 240;
 
     public static final int VIBRATION_DETECTION_RANGE = 32;
+    private static final int PATROL_RANGE = 20;
+    private static final int PATROL_VERTICAL_RANGE = 2;
+    private static final double BORDER_CLAMP_STEP = 8.0D;
     private static final int MAX_TRACKING_TICKS = 200;
     private static final int VIBRATION_MEMORY_DURATION = 400;
 
-    private final DynamicGameEventListener<VibrationSystem.Listener> dynamicGameEventListener = new DynamicGameEventListener<>(new VibrationSystem.Listener(this));
+    private DynamicGameEventListener<VibrationSystem.Listener> dynamicGameEventListener = new DynamicGameEventListener<>(new VibrationSystem.Listener(this));
     private final VibrationSystem.User vibrationUser = new MinotaurVibrationUser(this);
     private final VibrationSystem.Data vibrationData = new VibrationSystem.Data();
 
-    private int angerTime;
     private UUID angerTarget;
 
     public final AnimationState idleAnimationState = new AnimationState();
     public final AnimationState walkAnimationState = new AnimationState();
     public final AnimationState dashAnimationState = new AnimationState();
     public final AnimationState attackAnimationState = new AnimationState();
+    private MinotaurAnimationState clientAnimationState = null;
 
-    private int dashCooldownTicks = 0;
-    private int dashDurationTicks = 0;
-
-    private final Map<UUID, Boolean> hasHeardEntity = new HashMap<>();
+    private final MinotaurPerceptionMemory heardEntities = new MinotaurPerceptionMemory();
     private BlockPos lastSoundPosition = null;
-    private int soundTrackingTicks = 0;
 
-    private boolean targetDetectedByVibration = false;
-    private int vibrationDetectionCooldown = 0;
+    private boolean targetPerceived = false;
 
     private static final Map<String, Set<UUID>> DEFEATED_MINOTAURS = new HashMap<>();
 
     private static final int MAX_ATTACK_TIME = 15;
-    private boolean attackAnimationStarted = false;
+    // Sent once per swing; clients time the attack animation locally from their own tick count
+    private static final byte ATTACK_EVENT_ID = 4;
+    private int attackStartTick = -1;
+    private int attackDurationTicks = MAX_ATTACK_TIME;
+
+    @Nullable
+    private Activity speedActivity = null;
+    @Nullable
+    private ResourceLocation speedModifierId = null;
+
+    // Dormant minotaurs stand still and only run brain and vibration updates every
+    // Config.minotaurDormantTickInterval ticks, until a player comes close or a vibration arrives
+    private static final int DORMANCY_CHECK_INTERVAL = 20;
+    private boolean dormant = false;
+    @Nullable
+    private StructureStart homeLabyrinth = null;
+    // Start chunk of the labyrinth this minotaur belongs to, set by the piece that spawned it
+    private long labyrinthId = ChunkPos.INVALID_CHUNK_POS;
+    @Nullable
+    private BoundingBox leashBounds = null;
+    @Nullable
+    private LabyrinthDirector director = null;
+    // Filled by the director after every level tick; null until the first one
+    @Nullable
+    private MinotaurDecisionInput decisionInput = null;
+    // Hears through the director's corridor routing instead of its own game event listener
+    private boolean acousticRouted = false;
+    private int leashBoundsDistance;
 
-    private int regenerationTicks = 0;
     private static final int REGENERATION_INTERVAL = 20;
 
+    private final MinotaurTimers timers = new MinotaurTimers(this::onTimerExpired);
+    private final MinotaurPathRequests pathRequests = new MinotaurPathRequests(this);
+    private final MinotaurActivityMachine activityMachine = new MinotaurActivityMachine();
+
+    // Entity ids already struck by the current dash, and where its last sweep ended
+    private final IntSet dashHits = new IntOpenHashSet();
+    private final List<LivingEntity> dashHitBuffer = new ArrayList<>();
+    @Nullable
+    private Vec3 dashSweepFrom = null;
+
+    // Parametric trajectory of the current dash. The server compares its real motion with it,
+    // clients move the minotaur along it instead of waiting for position updates. Only the
+    // horizontal motion is predicted; clients follow the height of the server's position samples.
+    @Nullable
+    private Vec3 dashOrigin = null;
+    private Vec3 dashVelocity = Vec3.ZERO;
+    private int dashOriginTick;
+    private int dashTicks;
+    private double dashSampleY;
+
     public MinotaurEntity(EntityType<? extends Monster> entityType, Level level) {
         super(entityType, level);
         this.xpReward = 50;
-        this.attackAnimationStarted = false;
         this.attackAnim = 0.0F;
     }
 
@@ -116,7 +201,7 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         builder.define(ANGER_LEVEL, 0);
         builder.define(IS_DASHING, false);
         builder.define(IS_CHASING, false);
-        builder.define(ATTACK_TIME, 0);
+        builder.define(ANIMATION_STATE, MinotaurAnimationState.IDLE.getId());
     }
 
     @Override
@@ -146,6 +231,9 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
     }
 
     public void updateDynamicGameEventListener(BiConsumer<DynamicGameEventListener<?>, ServerLevel> listenerConsumer) {
+        if (this.acousticRouted) {
+            return;
+        }
         Level level = this.level();
         if (level instanceof ServerLevel serverLevel) {
             listenerConsumer.accept(this.dynamicGameEventListener, serverLevel);
@@ -154,93 +242,59 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
 
     @Override
     public void tick() {
-        super.tick();
+        long perfStart = LabyrythmPerf.begin(PerfSection.MINOTAUR_TICK);
+        MinotaurTickEvent jfrEvent = new MinotaurTickEvent();
+        jfrEvent.begin();
 
         Level level = this.level();
-
-        // Natural regeneration (1 HP per second)
-        if (!level.isClientSide() && this.isAlive()) {
-            regenerationTicks++;
-            if (regenerationTicks >= REGENERATION_INTERVAL) {
-                regenerationTicks = 0;
-                if (this.getHealth() < this.getMaxHealth()) {
-                    this.heal(1.0F);
-                }
-            }
+        // Deadlines fire before the brain runs, so a timer set during tick N is seen as expired by
+        // the same AI step that the old end-of-tick countdowns let through
+        if (!level.isClientSide()) {
+            this.timers.tick(level.getGameTime());
         }
 
-        int attackTime = getAttackTime();
-        if (attackTime > 0) {
-            setAttackTime(attackTime - 1);
-        } else if (attackAnimationStarted) {
-            attackAnimationStarted = false;
-            this.attackAnim = 0.0F;
-            
-            if (level.isClientSide()) {
-                idleAnimationState.stop();
-                walkAnimationState.stop();
-                dashAnimationState.stop();
-                attackAnimationState.stop();
-                
-                String currentState = determineAnimationState();
-                
-                switch (currentState) {
-                    case "idle" -> idleAnimationState.start(this.tickCount);
-                    case "walk" -> walkAnimationState.start(this.tickCount);
-                    case "run" -> dashAnimationState.start(this.tickCount);
-                }
-            }
-        }
+        super.tick();
+
+        ProfilerFiller profiler = level.getProfiler();
+        profiler.push("minotaurTick");
 
         if (!level.isClientSide()) {
             verifyAndRestoreAxe();
         }
 
-        if (!level.isClientSide() && this.getTarget() != null && !this.getTarget().isAlive()) {
+        if (level instanceof ServerLevel serverLevel) {
+            joinDirector(serverLevel);
+            updateDormancy(serverLevel);
+        }
+
+        if (!level.isClientSide() && this.getTarget() != null
+                && (!this.getTarget().isAlive() || !this.isWithinLeash(this.getTarget().blockPosition()))) {
             this.setTarget(null);
             this.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
-            this.targetDetectedByVibration = false;
+            this.targetPerceived = false;
             this.lastSoundPosition = null;
 
             this.getBrain().setActiveActivityIfPossible(ModActivities.PATROL.get());
 
-            RandomSource random = this.getRandom();
-            int x = Mth.randomBetweenInclusive(random, -16, 16);
-            int y = Mth.randomBetweenInclusive(random, -2, 2);
-            int z = Mth.randomBetweenInclusive(random, -16, 16);
-
-            BlockPos targetPos = this.blockPosition().offset(x, y, z);
-
-            this.getNavigation().moveTo(targetPos.getX(), targetPos.getY(), targetPos.getZ(), 1.0);
+            BlockPos targetPos = this.findPatrolWaypoint();
+            if (targetPos != null) {
+                this.pathRequests.request(targetPos, 1.0);
+            }
         }
 
-        if (!level.isClientSide() && tickCount % 80 == 0) {
+        // Staggered by entity id like AiLoadController.shouldRun, so a crowd never repaths on one tick
+        if (!level.isClientSide() && !this.dormant && (tickCount + this.getId()) % (80 * AiLoadController.getTier().getStride()) == 0) {
             if (this.getTarget() == null && this.lastSoundPosition == null &&
                 !this.getNavigation().isInProgress()) {
 
-                RandomSource random = this.getRandom();
-                int x = Mth.randomBetweenInclusive(random, -20, 20);
-                int y = Mth.randomBetweenInclusive(random, -2, 2);
-                int z = Mth.randomBetweenInclusive(random, -20, 20);
-
-                BlockPos targetPos = this.blockPosition().offset(x, y, z);
-
-                this.getNavigation().moveTo(targetPos.getX(), targetPos.getY(), targetPos.getZ(), 1.0);
-            }
-        }
-
-        if (vibrationDetectionCooldown > 0) {
-            vibrationDetectionCooldown--;
-            if (vibrationDetectionCooldown <= 0) {
-                targetDetectedByVibration = false;
-                if (this.getTarget() != null && !this.isWithinMeleeAttackRange(this.getTarget())) {
-                    this.setTarget(null);
-                    this.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
+                BlockPos targetPos = this.findPatrolWaypoint();
+                if (targetPos != null) {
+                    this.pathRequests.request(targetPos, 1.0);
                 }
             }
         }
 
-        if (!level.isClientSide()) {
+        if (!level.isClientSide() && !this.dormant && (isInCombat() || AiLoadController.shouldRun(this))) {
             Brain<?> brain = this.getBrain();
             Optional<WalkTarget> walkTarget = brain.getMemory(MemoryModuleType.WALK_TARGET);
 
@@ -248,62 +302,38 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
                 WalkTarget target = walkTarget.get();
                 BlockPos targetPos = BlockPos.containing(target.getTarget().currentPosition());
 
-                boolean success = this.getNavigation().moveTo(targetPos.getX(), targetPos.getY(), targetPos.getZ(), 1.0);
-
-                if (!success) {
-                    Path path = this.getNavigation().createPath(targetPos, 0);
-                }
+                this.pathRequests.request(targetPos, 1.0);
             }
         }
 
-        if (level instanceof ServerLevel serverLevel) {
-            VibrationSystem.Ticker.tick(serverLevel, this.vibrationData, this.vibrationUser);
-        }
-
-        if (dashCooldownTicks > 0) {
-            dashCooldownTicks--;
-        }
+        if (level instanceof ServerLevel serverLevel && !this.acousticRouted && (!this.dormant || isDormantTickSlot())) {
+            profiler.push("minotaurVibrations");
+            long vibrationStart = LabyrythmPerf.begin(PerfSection.VIBRATION_TICK);
+            VibrationTickEvent vibrationEvent = new VibrationTickEvent();
+            vibrationEvent.begin();
 
-        if (this.isDashing()) {
-            dashDurationTicks--;
-            if (dashDurationTicks <= 0) {
-                this.setDashing(false);
-            }
+            VibrationSystem.Ticker.tick(serverLevel, this.vibrationData, this.vibrationUser);
 
-            if (!level.isClientSide()) {
-                this.performDashAttack();
+            if (vibrationEvent.shouldCommit()) {
+                vibrationEvent.entityId = this.getId();
+                vibrationEvent.pending = this.vibrationData.getCurrentVibration() != null;
+                vibrationEvent.commit();
             }
+            LabyrythmPerf.end(PerfSection.VIBRATION_TICK, vibrationStart);
+            profiler.pop();
         }
 
-        if (lastSoundPosition != null && soundTrackingTicks > 0) {
-            soundTrackingTicks--;
-            if (soundTrackingTicks <= 0) {
-                lastSoundPosition = null;
-            }
+        if (!level.isClientSide() && this.isDashing()) {
+            this.performDashAttack();
+            this.checkDashTrajectory();
         }
 
         if (level.isClientSide()) {
-            String currentState = this.getAnimationState();
-            
-            idleAnimationState.stop();
-            walkAnimationState.stop();
-            dashAnimationState.stop();
-            attackAnimationState.stop();
-            
-            switch (currentState) {
-                case "idle":
-                    idleAnimationState.startIfStopped(this.tickCount);
-                    break;
-                case "walk":
-                    walkAnimationState.startIfStopped(this.tickCount);
-                    break;
-                case "run":
-                    dashAnimationState.startIfStopped(this.tickCount);
-                    break;
-                case "attack":
-                    dashAnimationState.startIfStopped(this.tickCount);
-                    break;
-            }
+            updateClientDash();
+            updateClientAnimation();
+        } else {
+            // SynchedEntityData only marks the entry dirty when the byte actually changes
+            this.entityData.set(ANIMATION_STATE, determineAnimationState().getId());
         }
 
         if (!level.isClientSide() && this.getTarget() != null) {
@@ -315,23 +345,16 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
             }
         }
 
-        if (!level.isClientSide()) {
-            Optional<Activity> currentActivity = this.getBrain().getActiveNonCoreActivity();
-
-            if (currentActivity.isPresent()) {
-                Activity activity = currentActivity.get();
-
-                float speedMultiplier = PATROL_SPEED_MULTIPLIER;
-
-                if (activity == ModActivities.CHASE.get()) {
-                    speedMultiplier = CHASE_SPEED_MULTIPLIER;
-                } else if (activity == ModActivities.INVESTIGATE.get()) {
-                    speedMultiplier = INVESTIGATE_SPEED_MULTIPLIER;
-                }
+        profiler.pop();
 
-                Objects.requireNonNull(this.getAttribute(Attributes.MOVEMENT_SPEED)).setBaseValue(BASE_MOVEMENT_SPEED * speedMultiplier);
-            }
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.entityId = this.getId();
+            jfrEvent.clientSide = level.isClientSide();
+            jfrEvent.dashing = this.isDashing();
+            jfrEvent.targetDistance = this.getTargetDistance();
+            jfrEvent.commit();
         }
+        LabyrythmPerf.end(PerfSection.MINOTAUR_TICK, perfStart);
     }
 
     private void verifyAndRestoreAxe() {
@@ -352,25 +375,320 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
 
     @Override
     protected void customServerAiStep() {
+        // Combat keeps full rate; everything else follows the dormant interval or the server load tier
+        boolean skipAi = this.dormant ? !isDormantTickSlot() : !isInCombat() && !AiLoadController.shouldRun(this);
+        if (skipAi) {
+            MinotaurAi.tickMemoryExpiry(this.getBrain());
+            return;
+        }
+
         ServerLevel serverLevel = (ServerLevel) this.level();
+        ProfilerFiller profiler = serverLevel.getProfiler();
+        profiler.push("minotaurBrain");
+        MinotaurBrainEvent jfrEvent = new MinotaurBrainEvent();
+        jfrEvent.begin();
+
         this.getBrain().tick(serverLevel, this);
 
+        // Follow up on what another minotaur of the labyrinth heard nearby
+        if (this.decisionInput != null && this.decisionInput.nearestSound() != null
+                && this.getTarget() == null && this.lastSoundPosition == null) {
+            this.setLastSoundPosition(this.decisionInput.nearestSound());
+        }
+
         if (this.getTarget() == null && this.getRemainingPersistentAngerTime() > 0) {
             if (this.getPersistentAngerTarget() != null) {
                 Entity entity = ((ServerLevel)this.level()).getEntity(this.getPersistentAngerTarget());
                 if (entity instanceof LivingEntity livingEntity && this.canTargetEntity(entity)) {
                     this.setTarget(livingEntity);
                     this.getBrain().setMemory(MemoryModuleType.ATTACK_TARGET, livingEntity);
-                    this.targetDetectedByVibration = true;
+                    this.targetPerceived = true;
                 }
             }
         }
 
         MinotaurAi.updateActivity(this);
 
-        if (this.angerTime > 0) {
-            this.angerTime--;
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.entityId = this.getId();
+            jfrEvent.activity = this.getBrain().getActiveNonCoreActivity().map(Activity::getName).orElse("none");
+            jfrEvent.targetDistance = this.getTargetDistance();
+            jfrEvent.commit();
+        }
+        profiler.pop();
+    }
+
+    private void onTimerExpired(MinotaurTimers.Timer timer) {
+        switch (timer) {
+            // Natural regeneration (1 HP per second); setHealth schedules the next heal while damaged
+            case REGENERATION -> {
+                if (this.isAlive()) {
+                    this.heal(1.0F);
+                }
+            }
+            case DASH_DURATION -> this.setDashing(false);
+            case SOUND_TRACKING -> this.lastSoundPosition = null;
+            case VIBRATION_MEMORY -> {
+                this.targetPerceived = false;
+                if (this.getTarget() != null && !this.isWithinMeleeAttackRange(this.getTarget())) {
+                    this.setTarget(null);
+                    this.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void setHealth(float health) {
+        super.setHealth(health);
+        // Called from the LivingEntity constructor before the timers exist
+        if (this.timers != null && !this.level().isClientSide() && this.getHealth() < this.getMaxHealth()) {
+            this.timers.scheduleIfAbsent(MinotaurTimers.Timer.REGENERATION, this.level().getGameTime(), REGENERATION_INTERVAL);
+        }
+    }
+
+    private void updateDormancy(ServerLevel level) {
+        if (this.dormant) {
+            if (hasPlayerNearby(level)) {
+                wakeUp();
+            }
+            return;
+        }
+
+        if ((this.tickCount + this.getId()) % DORMANCY_CHECK_INTERVAL != 0) {
+            return;
+        }
+        if (this.getTarget() != null || this.lastSoundPosition != null || this.isDashing() || hasPlayerNearby(level)) {
+            return;
+        }
+
+        this.dormant = true;
+        this.getNavigation().stop();
+        this.getBrain().eraseMemory(MemoryModuleType.WALK_TARGET);
+    }
+
+    public void setLabyrinthId(long labyrinthId) {
+        this.labyrinthId = labyrinthId;
+        this.homeLabyrinth = null;
+        this.leashBounds = null;
+        this.director = null;
+        this.decisionInput = null;
+    }
+
+    private StructureStart getHomeLabyrinth(ServerLevel level) {
+        if (this.homeLabyrinth != null) {
+            return this.homeLabyrinth;
+        }
+
+        if (this.labyrinthId != ChunkPos.INVALID_CHUNK_POS) {
+            StructureStart start = LabyrinthLayouts.getStartById(level, this.labyrinthId);
+            if (!start.isValid()) {
+                // Start chunk not loaded yet, try again later
+                return start;
+            }
+            this.homeLabyrinth = start;
+        } else {
+            // Minotaurs from before labyrinth ids adopt the labyrinth they stand in
+            this.homeLabyrinth = LabyrinthLayouts.getStartAt(level, this.blockPosition());
+            if (this.homeLabyrinth.isValid()) {
+                this.labyrinthId = this.homeLabyrinth.getChunkPos().toLong();
+            }
+        }
+        return this.homeLabyrinth;
+    }
+
+    private LabyrinthLayout getHomeLayout(ServerLevel level) {
+        return LabyrinthLayouts.get(getHomeLabyrinth(level));
+    }
+
+    // Labyrinth bounds grown by the configured leash, or null when this minotaur roams freely
+    @Nullable
+    public BoundingBox getLeashBounds() {
+        if (Config.labyrinthLeash < 0 || !(this.level() instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+        StructureStart start = getHomeLabyrinth(serverLevel);
+        if (!start.isValid()) {
+            return null;
+        }
+        if (this.leashBounds == null || this.leashBoundsDistance != Config.labyrinthLeash) {
+            this.leashBounds = start.getBoundingBox().inflatedBy(Config.labyrinthLeash);
+            this.leashBoundsDistance = Config.labyrinthLeash;
+        }
+        return this.leashBounds;
+    }
+
+    // Chunks past the entity-ticking border are frozen or unloaded; planning into them only
+    // produces partial searches that get retried every time the goal is requested again
+    public boolean isEntityTicking(BlockPos pos) {
+        return !(this.level() instanceof ServerLevel serverLevel) || serverLevel.isPositionEntityTicking(pos);
+    }
+
+    // Furthest point towards the target that still lies in an entity-ticking chunk, or null
+    @Nullable
+    public BlockPos clampToEntityTicking(BlockPos target) {
+        if (isEntityTicking(target)) {
+            return target;
+        }
+
+        Vec3 from = this.position();
+        Vec3 delta = Vec3.atBottomCenterOf(target).subtract(from);
+        int steps = Mth.ceil(delta.horizontalDistance() / BORDER_CLAMP_STEP);
+        for (int step = steps - 1; step > 0; step--) {
+            // Only the horizontal position is pulled back; the target's height is kept
+            Vec3 point = from.add(delta.scale((double) step / steps));
+            BlockPos pos = BlockPos.containing(point.x, target.getY(), point.z);
+            if (isEntityTicking(pos)) {
+                LabyrythmPerf.count(PerfSection.PATH_TARGET_CLAMPED);
+                return pos;
+            }
+        }
+        return null;
+    }
+
+    public boolean isWithinLeash(BlockPos pos) {
+        BoundingBox bounds = getLeashBounds();
+        return bounds == null || bounds.isInside(pos);
+    }
+
+    // Floor of the next labyrinth cell on the way to the goal, or null when the goal is in the
+    // current or an adjacent cell, outside the labyrinth, or not connected on the cell graph
+    @Nullable
+    public BlockPos getLabyrinthWaypoint(BlockPos goal) {
+        if (!Config.labyrinthRouting || !(this.level() instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+
+        LabyrinthLayout layout = getHomeLayout(serverLevel);
+        if (layout.isEmpty()) {
+            return null;
+        }
+        int from = layout.indexOf(this.blockPosition());
+        int to = layout.indexOf(goal);
+        if (from < 0 || to < 0 || from == to) {
+            return null;
+        }
+
+        int next;
+        LivingEntity target = this.getTarget();
+        if (target != null && layout.indexOf(target.blockPosition()) == to) {
+            // Chasers of the same target share one field instead of searching per minotaur
+            next = LabyrinthFlowFields.get(layout, target.getId(), to, serverLevel.getGameTime()).getNextCell(from);
+        } else {
+            long perfStart = LabyrythmPerf.begin(PerfSection.LABYRINTH_ROUTE);
+            next = layout.getNextCellTowards(from, to);
+            LabyrythmPerf.end(PerfSection.LABYRINTH_ROUTE, perfStart);
+        }
+        return next >= 0 && next != to ? layout.getCellFloor(next) : null;
+    }
+
+    // A random corridor cell of the home labyrinth that is connected to the current one, or a
+    // standable spot nearby when the minotaur is not inside a labyrinth
+    @Nullable
+    public BlockPos findPatrolWaypoint() {
+        if (this.level() instanceof ServerLevel serverLevel) {
+            LabyrinthLayout layout = getHomeLayout(serverLevel);
+            int cell = layout.indexOf(this.blockPosition());
+            BlockPos waypoint = layout.getRandomReachableFloor(cell, this.getRandom());
+            // Inside the maze a random nearby spot is likely behind a wall, so only cells are picked
+            if (waypoint != null || (cell >= 0 && layout.isOccupied(cell))) {
+                return waypoint;
+            }
+        }
+
+        Vec3 pos = LandRandomPos.getPos(this, PATROL_RANGE, PATROL_VERTICAL_RANGE);
+        return pos != null ? BlockPos.containing(pos) : null;
+    }
+
+    private void joinDirector(ServerLevel level) {
+        if (this.director == null) {
+            StructureStart start = getHomeLabyrinth(level);
+            if (start.isValid()) {
+                this.director = LabyrinthDirectors.join(level, this.labyrinthId, start, this);
+            }
+        }
+        // Checked every tick: the config can change at runtime and setLabyrinthId drops the director
+        setAcousticRouted(level, this.director != null && Config.acousticRouting);
+    }
+
+    private void setAcousticRouted(ServerLevel level, boolean routed) {
+        if (routed == this.acousticRouted) {
+            return;
+        }
+        if (routed) {
+            this.dynamicGameEventListener.remove(level);
+        } else {
+            // remove() keeps the listener's last section, so only a fresh one registers again
+            this.dynamicGameEventListener = new DynamicGameEventListener<>(new VibrationSystem.Listener(this));
+            this.dynamicGameEventListener.add(level);
+        }
+        this.acousticRouted = routed;
+    }
+
+    boolean isAcousticRouted() {
+        return this.acousticRouted;
+    }
+
+    void receiveRoutedVibration(ServerLevel level, BlockPos pos, Holder<GameEvent> event, GameEvent.Context context, float distance) {
+        if (!this.vibrationUser.canReceiveVibration(level, pos, event, context)) {
+            return;
+        }
+        LabyrythmPerf.count(PerfSection.VIBRATION_ROUTED);
+        Entity entity = context.sourceEntity();
+        Entity projectileOwner = entity instanceof Projectile projectile ? projectile.getOwner() : null;
+        this.vibrationUser.onReceiveVibration(level, pos, event, entity, projectileOwner, distance);
+    }
+
+    @Nullable
+    LabyrinthDirector getDirector() {
+        return this.director;
+    }
+
+    @Nullable
+    public MinotaurDecisionInput getDecisionInput() {
+        return this.decisionInput;
+    }
+
+    void setDecisionInput(MinotaurDecisionInput decisionInput) {
+        this.decisionInput = decisionInput;
+    }
+
+    private boolean hasPlayerNearby(ServerLevel level) {
+        if (this.decisionInput != null) {
+            return this.decisionInput.playerNearby();
+        }
+
+        LabyrinthLayout layout = getHomeLayout(level);
+        double radiusSqr = (double) Config.minotaurDormantRadius * Config.minotaurDormantRadius;
+
+        for (ServerPlayer player : level.players()) {
+            if (player.isSpectator() || !player.isAlive()) {
+                continue;
+            }
+            if (this.distanceToSqr(player) <= radiusSqr || layout.contains(player.blockPosition())) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private boolean isDormantTickSlot() {
+        int interval = Config.minotaurDormantTickInterval;
+        return interval > 0 && (this.tickCount + this.getId()) % interval == 0;
+    }
+
+    public void wakeUp() {
+        this.dormant = false;
+    }
+
+    private boolean isInCombat() {
+        return this.getTarget() != null || this.isDashing();
+    }
+
+    public boolean isDormant() {
+        return this.dormant;
     }
 
     @Override
@@ -383,12 +701,15 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         }
 
         boolean result = super.hurt(source, amount);
+        if (result) {
+            this.wakeUp();
+        }
 
         if (result && source.getEntity() instanceof LivingEntity attacker) {
             if (this.canTargetEntity(attacker)) {
                 this.setTarget(attacker);
-                this.targetDetectedByVibration = true;
-                this.vibrationDetectionCooldown = VIBRATION_MEMORY_DURATION;
+                this.targetPerceived = true;
+                this.timers.schedule(MinotaurTimers.Timer.VIBRATION_MEMORY, this.level().getGameTime(), VIBRATION_MEMORY_DURATION);
 
                 this.getBrain().setMemory(MemoryModuleType.ATTACK_TARGET, attacker);
 
@@ -404,8 +725,7 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
     public float getAttackAnim(float partialTicks) {
         int attackTime = getAttackTime();
         
-        int maxAttackTime = this.level().isClientSide() ? 
-            (int)(AnimationLoader.getAnimationLength("attack") * 20) : MAX_ATTACK_TIME;
+        int maxAttackTime = this.level().isClientSide() ? this.attackDurationTicks : MAX_ATTACK_TIME;
             
         if (attackTime > 0) {
             float progress = 1.0F - ((float)attackTime - partialTicks) / maxAttackTime;
@@ -427,8 +747,10 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         int attackTicks = (int)(animLength * 20);
         if (attackTicks <= 0) attackTicks = MAX_ATTACK_TIME;
         
-        this.setAttackTime(attackTicks);
-        this.attackAnimationStarted = false;
+        if (!this.level().isClientSide()) {
+            this.timers.schedule(MinotaurTimers.Timer.ATTACK, this.level().getGameTime(), attackTicks);
+            this.level().broadcastEntityEvent(this, ATTACK_EVENT_ID);
+        }
         this.attackAnim = 0.0F;
         
         if (entity instanceof LivingEntity) {
@@ -459,14 +781,46 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         return result;
     }
 
+    @Override
+    public void addAdditionalSaveData(CompoundTag tag) {
+        super.addAdditionalSaveData(tag);
+        if (this.labyrinthId != ChunkPos.INVALID_CHUNK_POS) {
+            tag.putLong("LabyrinthId", this.labyrinthId);
+        }
+        if (this.heardEntities.size() > 0) {
+            tag.putLongArray("HeardEntities", this.heardEntities.save(this.level().getGameTime()));
+        }
+    }
+
+    @Override
+    public void readAdditionalSaveData(CompoundTag tag) {
+        super.readAdditionalSaveData(tag);
+        if (tag.contains("LabyrinthId", Tag.TAG_LONG)) {
+            this.setLabyrinthId(tag.getLong("LabyrinthId"));
+        }
+        if (tag.contains("HeardEntities", Tag.TAG_LONG_ARRAY)) {
+            this.heardEntities.load(tag.getLongArray("HeardEntities"));
+        }
+    }
+
+    public void onSensedTarget(LivingEntity target) {
+        this.setTarget(target);
+        this.targetPerceived = true;
+        this.timers.schedule(MinotaurTimers.Timer.VIBRATION_MEMORY, this.level().getGameTime(), VIBRATION_MEMORY_DURATION);
+        this.getBrain().setMemory(MemoryModuleType.ATTACK_TARGET, target);
+    }
+
     public void onHeardVibration(Entity source, BlockPos soundPos) {
+        if (this.director != null && soundPos != null) {
+            this.director.reportSound(soundPos);
+        }
         if (source instanceof Player player && this.canTargetEntity(player)) {
             this.setTarget(player);
             this.setLastSoundPosition(soundPos);
-            this.hasHeardEntity.put(source.getUUID(), true);
+            this.heardEntities.record(source.getUUID(), this.level().getGameTime());
 
-            this.targetDetectedByVibration = true;
-            this.vibrationDetectionCooldown = VIBRATION_MEMORY_DURATION;
+            this.targetPerceived = true;
+            this.timers.schedule(MinotaurTimers.Timer.VIBRATION_MEMORY, this.level().getGameTime(), VIBRATION_MEMORY_DURATION);
 
             this.getBrain().setMemory(MemoryModuleType.ATTACK_TARGET, player);
         } else if (soundPos != null) {
@@ -482,35 +836,41 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
                    !this.isAlliedTo(entity) &&
                    livingEntity.getType() != EntityType.ARMOR_STAND &&
                    !livingEntity.isInvulnerable() &&
-                   !livingEntity.isDeadOrDying();
+                   !livingEntity.isDeadOrDying() &&
+                   this.isWithinLeash(livingEntity.blockPosition());
         }
         return false;
     }
 
     public boolean canDash() {
-        return dashCooldownTicks <= 0;
+        return !this.timers.isActive(MinotaurTimers.Timer.DASH_COOLDOWN, this.level().getGameTime());
     }
 
     public void startDash(Vec3 direction) {
         if (!this.canDash()) return;
 
         this.setDashing(true);
-        this.dashDurationTicks = DASH_DURATION_TICKS;
-        this.dashCooldownTicks = DASH_COOLDOWN_TICKS;
+        // The first sweep starts where the dash does, not where the first tick of travel ends
+        this.dashSweepFrom = this.position();
+        long gameTime = this.level().getGameTime();
+        this.timers.schedule(MinotaurTimers.Timer.DASH_DURATION, gameTime, DASH_DURATION_TICKS);
+        this.timers.schedule(MinotaurTimers.Timer.DASH_COOLDOWN, gameTime, DASH_COOLDOWN_TICKS);
 
         Vec3 normalizedDir = direction.normalize();
-        this.setDeltaMovement(normalizedDir.x * DASH_FORCE,
-                             this.onGround() ? 0.1 : this.getDeltaMovement().y,
-                             normalizedDir.z * DASH_FORCE);
+        // Launched flat: a hop spends its first ticks under air drag instead of ground
+        // friction, which leaves the real motion behind MinotaurDashMotion's prediction
+        this.setDeltaMovement(normalizedDir.x * DASH_FORCE, this.getDeltaMovement().y, normalizedDir.z * DASH_FORCE);
+        this.beginDashTrajectory(DASH_DURATION_TICKS, true);
 
         this.playSound(SoundEvents.WARDEN_SONIC_BOOM, 3.0F, 0.5F);
     }
 
     public void startDashToTarget() {
-        this.setDashing(true);
-
         LivingEntity target = this.getTarget();
-        if (target != null) {
+        if (target != null && this.isEntityTicking(target.blockPosition())) {
+            this.setDashing(true);
+            this.dashSweepFrom = this.position();
+
             double dx = target.getX() - this.getX();
             double dz = target.getZ() - this.getZ();
 
@@ -518,7 +878,7 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
             dx = dx / length;
             dz = dz / length;
 
-            this.setDeltaMovement(dx * DASH_FORCE, 0.1, dz * DASH_FORCE);
+            this.setDeltaMovement(dx * DASH_FORCE, this.getDeltaMovement().y, dz * DASH_FORCE);
 
             double yawRadians = Math.atan2(dz, dx);
             float yawDegrees = (float)Math.toDegrees(yawRadians) - 90F;
@@ -528,27 +888,127 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
             this.yBodyRot = yawDegrees;
             this.yHeadRot = yawDegrees;
 
-            this.dashDurationTicks = DASH_DURATION_TICKS * 2;
-            this.dashCooldownTicks = DASH_COOLDOWN_TICKS;
+            long gameTime = this.level().getGameTime();
+            this.timers.schedule(MinotaurTimers.Timer.DASH_DURATION, gameTime, DASH_DURATION_TICKS * 2);
+            this.timers.schedule(MinotaurTimers.Timer.DASH_COOLDOWN, gameTime, DASH_COOLDOWN_TICKS);
+            this.beginDashTrajectory(DASH_DURATION_TICKS * 2, true);
 
             this.playSound(SoundEvents.COW_HURT, 2.0F, 0.6F);
         }
     }
 
+    // Launches happen in the AI step, before the tick's own travel, so by the time
+    // checkDashTrajectory runs the minotaur has already covered one tick of the dash
+    private void beginDashTrajectory(int durationTicks, boolean launch) {
+        this.dashOrigin = this.position();
+        this.dashVelocity = this.getDeltaMovement();
+        this.dashOriginTick = launch ? this.tickCount - 1 : this.tickCount;
+        this.dashTicks = durationTicks;
+        PacketDistributor.sendToPlayersTrackingEntity(this,
+                new DashStartPayload(this.getId(), this.dashOrigin, this.dashVelocity, durationTicks));
+    }
+
+    // Re-anchors the trajectory for clients only when walls, slopes or knockback pushed the
+    // real motion off it
+    private void checkDashTrajectory() {
+        if (this.dashOrigin == null) {
+            return;
+        }
+        int elapsed = this.tickCount - this.dashOriginTick;
+        if (elapsed >= this.dashTicks) {
+            this.dashOrigin = null;
+            return;
+        }
+
+        Vec3 predicted = this.dashOrigin.add(getDashOffset(this.dashVelocity, elapsed));
+        // Steps and falls only change the height, which clients take from position samples
+        if (horizontalDistanceSqr(predicted, this.getX(), this.getZ()) > DASH_CORRECTION_DISTANCE_SQR) {
+            LabyrythmPerf.count(PerfSection.DASH_CORRECTION);
+            this.beginDashTrajectory(this.dashTicks - elapsed, false);
+        }
+    }
+
+    public void startClientDash(Vec3 origin, Vec3 velocity, int durationTicks) {
+        this.dashOrigin = origin;
+        this.dashVelocity = velocity;
+        this.dashOriginTick = this.tickCount;
+        this.dashTicks = durationTicks;
+        this.dashSampleY = origin.y;
+        this.lerpSteps = 0;
+        this.setPos(origin);
+    }
+
+    private void updateClientDash() {
+        if (this.dashOrigin == null) {
+            return;
+        }
+        int elapsed = this.tickCount - this.dashOriginTick;
+        if (elapsed > this.dashTicks) {
+            this.dashOrigin = null;
+            return;
+        }
+        Vec3 offset = getDashOffset(this.dashVelocity, elapsed);
+        this.setPos(this.dashOrigin.x + offset.x, Mth.lerp(0.5D, this.getY(), this.dashSampleY), this.dashOrigin.z + offset.z);
+    }
+
+    // Horizontal offset along the dash
+    private static Vec3 getDashOffset(Vec3 velocity, int ticks) {
+        double factor = MinotaurDashMotion.travelFactor(ticks);
+        return new Vec3(velocity.x * factor, 0.0D, velocity.z * factor);
+    }
+
+    @Override
+    public void lerpTo(double x, double y, double z, float yRot, float xRot, int steps) {
+        // During a predicted dash, position updates only matter once they disagree with it
+        if (this.dashOrigin != null && this.level().isClientSide()) {
+            if (horizontalDistanceSqr(this.position(), x, z) <= DASH_CORRECTION_DISTANCE_SQR) {
+                this.dashSampleY = y;
+                this.setYRot(yRot);
+                this.setXRot(xRot);
+                return;
+            }
+            this.dashOrigin = null;
+        }
+        super.lerpTo(x, y, z, yRot, xRot, steps);
+    }
+
+    private static double horizontalDistanceSqr(Vec3 pos, double x, double z) {
+        double dx = pos.x - x;
+        double dz = pos.z - z;
+        return dx * dx + dz * dz;
+    }
+
+    // Each tick sweeps the attack box from where the previous tick left off, so a fast dash
+    // cannot skip over anything, and an entity is struck at most once per dash
     private void performDashAttack() {
+        if (!(this.level() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
         AABB attackBox = this.getBoundingBox().inflate(1.0);
+        Vec3 from = this.dashSweepFrom != null ? this.dashSweepFrom : this.position();
+        AABB sweptBox = attackBox.minmax(attackBox.move(from.subtract(this.position())));
+        this.dashSweepFrom = this.position();
+
+        // Hits are applied after the section walk; hurting can move or remove entities
+        serverLevel.getEntities().get(EntityTypeTest.forClass(LivingEntity.class), sweptBox, entity -> {
+            if (entity != this && !this.dashHits.contains(entity.getId()) && this.canTargetEntity(entity)) {
+                this.dashHitBuffer.add(entity);
+            }
+            return AbortableIterationConsumer.Continuation.CONTINUE;
+        });
 
-        for (Entity entity : this.level().getEntities(this, attackBox)) {
-            if (entity != this && entity instanceof LivingEntity livingEntity && this.canTargetEntity(entity)) {
-                this.doHurtTarget(entity);
-                
-                double knockbackStrength = this.getAttributeValue(Attributes.ATTACK_KNOCKBACK);
-                if (knockbackStrength > 0) {
-                    Vec3 knockbackDir = entity.position().subtract(this.position()).normalize();
-                    entity.push(knockbackDir.x * knockbackStrength, 0.3, knockbackDir.z * knockbackStrength);
-                }
+        for (LivingEntity entity : this.dashHitBuffer) {
+            this.dashHits.add(entity.getId());
+            this.doHurtTarget(entity);
+
+            double knockbackStrength = this.getAttributeValue(Attributes.ATTACK_KNOCKBACK);
+            if (knockbackStrength > 0) {
+                Vec3 knockbackDir = entity.position().subtract(this.position()).normalize();
+                entity.push(knockbackDir.x * knockbackStrength, 0.3, knockbackDir.z * knockbackStrength);
             }
         }
+        this.dashHitBuffer.clear();
     }
 
     public boolean isDashing() {
@@ -556,6 +1016,12 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
     }
 
     public void setDashing(boolean dashing) {
+        if (dashing && !this.isDashing()) {
+            this.dashHits.clear();
+            this.dashSweepFrom = null;
+        } else if (!dashing) {
+            this.dashOrigin = null;
+        }
         this.entityData.set(IS_DASHING, dashing);
     }
 
@@ -569,7 +1035,7 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
 
     public void setLastSoundPosition(BlockPos pos) {
         this.lastSoundPosition = pos;
-        this.soundTrackingTicks = MAX_TRACKING_TICKS;
+        this.timers.schedule(MinotaurTimers.Timer.SOUND_TRACKING, this.level().getGameTime(), MAX_TRACKING_TICKS);
     }
 
     public BlockPos getLastSoundPosition() {
@@ -577,11 +1043,54 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
     }
 
     public boolean hasHeardEntity(Entity entity) {
-        return entity != null && this.hasHeardEntity.getOrDefault(entity.getUUID(), false);
+        return hasHeardEntityWithin(entity, MinotaurPerceptionMemory.MAX_AGE_TICKS);
+    }
+
+    public boolean hasHeardEntityWithin(Entity entity, long ticks) {
+        return entity != null && this.heardEntities.heardWithin(entity.getUUID(), this.level().getGameTime(), ticks);
     }
 
-    public boolean wasTargetDetectedByVibration() {
-        return targetDetectedByVibration;
+    public boolean wasTargetPerceived() {
+        return targetPerceived;
+    }
+
+    // Called after every activity update; only touches the attribute when the activity changed
+    public void applyActivitySpeed(@Nullable Activity activity) {
+        if (activity == null || activity == this.speedActivity) {
+            return;
+        }
+        this.speedActivity = activity;
+
+        AttributeInstance movementSpeed = Objects.requireNonNull(this.getAttribute(Attributes.MOVEMENT_SPEED));
+        // Older saves persisted the multiplied speed as the base value
+        if (movementSpeed.getBaseValue() != BASE_MOVEMENT_SPEED) {
+            movementSpeed.setBaseValue(BASE_MOVEMENT_SPEED);
+        }
+
+        ResourceLocation modifierId = PATROL_SPEED_ID;
+        float speedMultiplier = PATROL_SPEED_MULTIPLIER;
+
+        if (activity == ModActivities.CHASE.get()) {
+            modifierId = CHASE_SPEED_ID;
+            speedMultiplier = CHASE_SPEED_MULTIPLIER;
+        } else if (activity == ModActivities.INVESTIGATE.get()) {
+            modifierId = INVESTIGATE_SPEED_ID;
+            speedMultiplier = INVESTIGATE_SPEED_MULTIPLIER;
+        }
+
+        if (modifierId.equals(this.speedModifierId)) {
+            return;
+        }
+        if (this.speedModifierId != null) {
+            movementSpeed.removeModifier(this.speedModifierId);
+        }
+        movementSpeed.addTransientModifier(new AttributeModifier(modifierId, speedMultiplier - 1.0D, AttributeModifier.Operation.ADD_MULTIPLIED_BASE));
+        this.speedModifierId = modifierId;
+    }
+
+    public double getTargetDistance() {
+        LivingEntity target = this.getTarget();
+        return target != null ? this.distanceTo(target) : -1.0D;
     }
 
     public boolean isWithinMeleeAttackRange(LivingEntity target) {
@@ -594,7 +1103,7 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
     }
 
     public void jumpToPosition(BlockPos targetPos) {
-        if (!this.onGround()) return;
+        if (!this.onGround() || !this.isEntityTicking(targetPos)) return;
 
         double heightDifference = targetPos.getY() - this.getY();
         if (heightDifference > 0) {
@@ -619,12 +1128,16 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
 
     @Override
     public void setRemainingPersistentAngerTime(int time) {
-        this.angerTime = time;
+        if (time > 0) {
+            this.timers.schedule(MinotaurTimers.Timer.ANGER, this.level().getGameTime(), time);
+        } else {
+            this.timers.cancel(MinotaurTimers.Timer.ANGER);
+        }
     }
 
     @Override
     public int getRemainingPersistentAngerTime() {
-        return this.angerTime;
+        return this.timers.getRemaining(MinotaurTimers.Timer.ANGER, this.level().getGameTime());
     }
 
     @Override
@@ -689,15 +1202,21 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         @Override
         public boolean canReceiveVibration(ServerLevel level, BlockPos pos, Holder<GameEvent> event, GameEvent.Context context) {
             Entity source = context.sourceEntity();
-            return source == null || source instanceof Player;
+            boolean canReceive = (source == null || source instanceof Player) && this.minotaur.isWithinLeash(pos);
+            if (canReceive) {
+                // Wake before the vibration is scheduled so the ticker delivers it on time
+                this.minotaur.wakeUp();
+            }
+            return canReceive;
         }
 
         @Override
         public void onReceiveVibration(ServerLevel level, BlockPos pos, Holder<GameEvent> event,
                                       @Nullable Entity entity, @Nullable Entity projectileOwner, float distance) {
+            LabyrythmPerf.count(PerfSection.VIBRATION_RECEIVED);
             Entity source = projectileOwner != null ? projectileOwner : entity;
 
-            if (source instanceof Player || source == null) {
+            if ((source instanceof Player || source == null) && this.minotaur.isWithinLeash(pos)) {
                 this.minotaur.onHeardVibration(source, pos);
 
                 if (source instanceof Player player && this.minotaur.canTargetEntity(player)) {
@@ -721,17 +1240,389 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         }
     }
 
+    public MinotaurActivityMachine getActivityMachine() {
+        return this.activityMachine;
+    }
+
+    public MinotaurPathRequests getPathRequests() {
+        return this.pathRequests;
+    }
+
+    public boolean isPathPendingFor(BlockPos target) {
+        return this.navigation instanceof MinotaurNavigation minotaurNavigation && minotaurNavigation.isPendingFor(target);
+    }
+
+    public boolean isFollowingPathTo(BlockPos target) {
+        return this.navigation instanceof MinotaurNavigation minotaurNavigation
+                ? minotaurNavigation.isFollowing(target)
+                : this.navigation.isInProgress() && target.equals(this.navigation.getTargetPos());
+    }
+
+    // Whether the path being followed to the target actually ends there, rather than at the
+    // ticking border or wherever a partial search gave up
+    public boolean isPathReaching(BlockPos target) {
+        if (this.navigation instanceof MinotaurNavigation minotaurNavigation) {
+            return minotaurNavigation.isReaching(target);
+        }
+        Path path = this.navigation.getPath();
+        return path != null && path.canReach();
+    }
+
     private static class MinotaurNavigation extends WallClimberNavigation {
+        // A result whose first node is further than this from the minotaur is stale
+        private static final double STALE_PATH_DISTANCE_SQR = 16.0D;
+        // Routed searches only need to span the current cell and the next one
+        private static final float CELL_ROUTE_RANGE = LabyrinthLayout.CELL_SIZE * 2 + 2;
+        // Room around the minotaur and its targets for a search to detour through
+        private static final int SNAPSHOT_MARGIN = LabyrinthLayout.CELL_SIZE * 2;
+        private static final int SNAPSHOT_MARGIN_Y = 8;
+
         private final MinotaurEntity minotaur;
+        private final int maxVisitedNodes;
+        @Nullable
+        private PathfindingMob pathfindingMob;
+
+        @Nullable
+        private CompletableFuture<Path> pendingPath;
+        @Nullable
+        private Set<BlockPos> pendingTargets;
+        // Goals are kept as the caller asked for them, before the border clamp and labyrinth
+        // routing swapped in another position, so failures and dedupe match the caller's target
+        @Nullable
+        private BlockPos pendingGoal;
+        private boolean pendingClamped;
+        private int pendingAccuracy;
+        private double pendingSpeed = 1.0D;
+        @Nullable
+        private Path createdPath;
+        @Nullable
+        private BlockPos createdGoal;
+        private boolean createdReaching;
+        @Nullable
+        private BlockPos followedGoal;
+        private boolean followedReaching;
+        // WallClimberNavigation keeps the last target it was given and walks straight at it once
+        // the path is done. This mirrors that target, or is null when the last one was rejected.
+        @Nullable
+        private BlockPos steerTarget;
+        // The target callers asked for, before it was clamped to the entity-ticking chunks
+        @Nullable
+        private BlockPos requestedGoal;
+        private boolean requestCutShort;
+        private boolean recomputing;
 
         public MinotaurNavigation(MinotaurEntity minotaur, Level level) {
             super(minotaur, level);
             this.minotaur = minotaur;
             this.maxDistanceToWaypoint = 2.0F;
+            this.maxVisitedNodes = Mth.floor(minotaur.getAttributeBaseValue(Attributes.FOLLOW_RANGE) * 16.0D);
+        }
+
+        @Override
+        public boolean moveTo(double x, double y, double z, double speed) {
+            this.pendingSpeed = speed;
+            Path path = this.createPath(x, y, z, 1);
+            // moveTo(null) would drop the current path; keep following it while a worker searches
+            if (path == null && this.pendingPath != null) {
+                return false;
+            }
+            return this.moveTo(path, speed);
+        }
+
+        @Override
+        public boolean moveTo(@Nullable Path path, double speed) {
+            boolean created = path != null && path == this.createdPath;
+            BlockPos goal = this.createdGoal;
+            boolean reaching = this.createdReaching;
+            this.createdPath = null;
+            this.createdGoal = null;
+
+            if (!super.moveTo(path, speed)) {
+                this.followedGoal = null;
+                return false;
+            }
+            this.followedGoal = created ? goal : null;
+            this.followedReaching = created && reaching;
+            return true;
+        }
+
+        @Override
+        public boolean moveTo(Entity entity, double speed) {
+            this.pendingSpeed = speed;
+            Path path = this.createPath(entity, 0);
+            if (path != null) {
+                return this.moveTo(path, speed);
+            }
+            // Like WallClimberNavigation, steer straight at the entity without a path, but only
+            // when it is a target the minotaur may walk to
+            if (this.steerTarget == null) {
+                return false;
+            }
+            this.speedModifier = speed;
+            return true;
+        }
+
+        // Targets are checked and clamped before WallClimberNavigation sees them, since it
+        // remembers every target it is given and walks towards it even when no path was found
+        @Nullable
+        @Override
+        public Path createPath(BlockPos pos, int accuracy) {
+            BlockPos allowed = allowTarget(pos);
+            if (allowed == null) {
+                return null;
+            }
+            try {
+                return super.createPath(allowed, accuracy);
+            } finally {
+                this.requestedGoal = null;
+            }
+        }
+
+        @Nullable
+        @Override
+        public Path createPath(Entity entity, int accuracy) {
+            BlockPos pos = entity.blockPosition();
+            BlockPos allowed = allowTarget(pos);
+            if (allowed == null) {
+                return null;
+            }
+            try {
+                return allowed.equals(pos) ? super.createPath(entity, accuracy) : super.createPath(allowed, accuracy);
+            } finally {
+                this.requestedGoal = null;
+            }
+        }
+
+        @Nullable
+        private BlockPos allowTarget(BlockPos pos) {
+            BlockPos allowed = this.minotaur.isWithinLeash(pos) ? this.minotaur.clampToEntityTicking(pos) : null;
+            this.steerTarget = allowed;
+            if (!this.recomputing) {
+                this.requestedGoal = pos;
+                this.requestCutShort = allowed != null && !allowed.equals(pos);
+            }
+            return allowed;
+        }
+
+        // PathNavigation recomputes towards targetPos, which is already clamped or routed; keep
+        // the search attributed to the goal being followed
+        @Override
+        public void recomputePath() {
+            BlockPos goal = this.followedGoal;
+            this.requestedGoal = goal;
+            this.requestCutShort = goal != null && !this.followedReaching;
+            this.recomputing = true;
+            try {
+                super.recomputePath();
+            } finally {
+                this.recomputing = false;
+                this.requestedGoal = null;
+            }
+            if (this.path != null && this.path == this.createdPath) {
+                this.followedReaching = this.createdReaching;
+            }
+            this.createdPath = null;
+            this.createdGoal = null;
+        }
+
+        // Async requests return null while the search is pending, so callers never mistake the
+        // current path for one to their goal. MinotaurPathRequests treats a pending search as in
+        // progress, and tick() applies the worker's result.
+        @Nullable
+        @Override
+        protected Path createPath(Set<BlockPos> targets, int regionOffset, boolean offsetUpward, int accuracy, float followRange) {
+            BoundingBox leash = this.minotaur.getLeashBounds();
+            if (leash != null) {
+                targets = targets.stream().filter(leash::isInside).collect(Collectors.toSet());
+                if (targets.isEmpty()) {
+                    return null;
+                }
+            }
+
+            BlockPos requested = this.requestedGoal != null ? this.requestedGoal : targets.size() == 1 ? targets.iterator().next() : null;
+            Set<BlockPos> loadedTargets = new HashSet<>(targets.size());
+            for (BlockPos target : targets) {
+                BlockPos clamped = this.minotaur.clampToEntityTicking(target);
+                if (clamped != null) {
+                    loadedTargets.add(clamped);
+                }
+            }
+            if (loadedTargets.isEmpty()) {
+                return null;
+            }
+            boolean clamped = this.requestCutShort || !loadedTargets.equals(targets);
+            targets = loadedTargets;
+
+            BlockPos goal = targets.size() == 1 ? targets.iterator().next() : null;
+            if (goal != null) {
+                BlockPos waypoint = this.minotaur.getLabyrinthWaypoint(goal);
+                if (waypoint != null) {
+                    targets = Set.of(waypoint);
+                    followRange = Math.min(followRange, CELL_ROUTE_RANGE);
+                }
+            }
+
+            if (!Config.asyncPathfinding || targets.isEmpty() || this.mob.getY() < this.level.getMinBuildHeight() || !this.canUpdatePath()) {
+                long perfStart = LabyrythmPerf.begin(PerfSection.PATHFINDING);
+                Path path = super.createPath(targets, regionOffset, offsetUpward, accuracy, followRange);
+                LabyrythmPerf.end(PerfSection.PATHFINDING, perfStart);
+                // A routed path ends at a waypoint; reaching it is progress towards the goal
+                setCreated(path, requested, path != null && path.canReach() && !clamped);
+                return path;
+            }
+
+            if (this.path != null && !this.path.isDone() && targets.contains(this.targetPos)) {
+                setCreated(this.path, requested, this.path.canReach() && !clamped);
+                return this.path;
+            }
+            if (this.pendingPath != null && targets.equals(this.pendingTargets)) {
+                return null;
+            }
+
+            long snapshotStart = LabyrythmPerf.begin(PerfSection.PATH_SNAPSHOT);
+            BlockPos origin = offsetUpward ? this.mob.blockPosition().above() : this.mob.blockPosition();
+            // Only the blocks spanning the minotaur and its targets are copied, clipped to the
+            // cube vanilla would hand the search
+            int minX = origin.getX(), minY = origin.getY(), minZ = origin.getZ();
+            int maxX = minX, maxY = minY, maxZ = minZ;
+            for (BlockPos target : targets) {
+                minX = Math.min(minX, target.getX());
+                minY = Math.min(minY, target.getY());
+                minZ = Math.min(minZ, target.getZ());
+                maxX = Math.max(maxX, target.getX());
+                maxY = Math.max(maxY, target.getY());
+                maxZ = Math.max(maxZ, target.getZ());
+            }
+            int radius = (int) (followRange + regionOffset);
+            BlockPos min = new BlockPos(Math.max(minX - SNAPSHOT_MARGIN, origin.getX() - radius),
+                    Math.max(minY - SNAPSHOT_MARGIN_Y, origin.getY() - radius),
+                    Math.max(minZ - SNAPSHOT_MARGIN, origin.getZ() - radius));
+            BlockPos max = new BlockPos(Math.min(maxX + SNAPSHOT_MARGIN, origin.getX() + radius),
+                    Math.min(maxY + SNAPSHOT_MARGIN_Y, origin.getY() + radius),
+                    Math.min(maxZ + SNAPSHOT_MARGIN, origin.getZ() + radius));
+            if (leash != null) {
+                // Never clip away the minotaur's own position, even if it was pushed past the leash
+                min = new BlockPos(Math.max(min.getX(), Math.min(leash.minX(), origin.getX())),
+                        Math.max(min.getY(), Math.min(leash.minY(), origin.getY())),
+                        Math.max(min.getZ(), Math.min(leash.minZ(), origin.getZ())));
+                max = new BlockPos(Math.min(max.getX(), Math.max(leash.maxX(), origin.getX())),
+                        Math.min(max.getY(), Math.max(leash.maxY(), origin.getY())),
+                        Math.min(max.getZ(), Math.max(leash.maxZ(), origin.getZ())));
+            }
+            PathRegionSnapshot region = new PathRegionSnapshot(this.level, min, max);
+            LabyrythmPerf.end(PerfSection.PATH_SNAPSHOT, snapshotStart);
+
+            // Everything the search reads from the minotaur is copied here, on the server thread
+            if (this.pathfindingMob == null) {
+                this.pathfindingMob = new PathfindingMob(ModEntityTypes.MINOTAUR.get(), this.level);
+            }
+            PathRequest request = new PathRequest(this.pathfindingMob.copyFrom(this.mob), this.nodeEvaluator, region, targets,
+                    followRange, accuracy, this.maxVisitedNodes);
+
+            cancelPendingPath();
+            this.pendingTargets = request.getTargets();
+            this.pendingGoal = requested;
+            this.pendingClamped = clamped;
+            this.pendingAccuracy = accuracy;
+            this.pendingPath = AsyncPathfinder.submit(request);
+            return null;
+        }
+
+        private void setCreated(@Nullable Path path, @Nullable BlockPos goal, boolean reaching) {
+            this.createdPath = path;
+            this.createdGoal = goal;
+            this.createdReaching = reaching;
+        }
+
+        private void applyPendingPath() {
+            if (this.pendingPath == null || !this.pendingPath.isDone()) {
+                return;
+            }
+
+            CompletableFuture<Path> future = this.pendingPath;
+            BlockPos goal = this.pendingGoal;
+            boolean reaching = false;
+            this.pendingPath = null;
+            this.pendingTargets = null;
+            this.pendingGoal = null;
+
+            Path result = future.isCompletedExceptionally() ? null : future.join();
+            if (goal != null) {
+                // A partial path, or one cut short at the ticking border, is still worth
+                // walking, but counts as a failure for the backoff
+                reaching = result != null && result.canReach() && !this.pendingClamped;
+                if (reaching) {
+                    this.minotaur.getPathRequests().clearFailure(goal);
+                } else {
+                    this.minotaur.getPathRequests().recordFailure(goal);
+                }
+            }
+            if (result == null) {
+                return;
+            }
+            if (result.getNodeCount() > 0 && result.getNode(0).asBlockPos().distSqr(this.mob.blockPosition()) > STALE_PATH_DISTANCE_SQR) {
+                LabyrythmPerf.count(PerfSection.PATH_RESULT_STALE);
+                return;
+            }
+
+            if (result.getTarget() != null) {
+                this.targetPos = result.getTarget();
+                this.reachRange = this.pendingAccuracy;
+            }
+            setCreated(result, goal, reaching);
+            this.moveTo(result, this.pendingSpeed);
+        }
+
+        private void cancelPendingPath() {
+            if (this.pendingPath != null) {
+                this.pendingPath.cancel(false);
+                this.pendingPath = null;
+                this.pendingTargets = null;
+                this.pendingGoal = null;
+            }
+        }
+
+        public boolean isPendingFor(BlockPos target) {
+            return this.pendingPath != null && target.equals(this.pendingGoal);
+        }
+
+        public boolean isFollowing(BlockPos target) {
+            return this.isInProgress() && target.equals(this.followedGoal);
+        }
+
+        public boolean isReaching(BlockPos target) {
+            return this.isFollowing(target) && this.followedReaching;
+        }
+
+        @Override
+        public void stop() {
+            cancelPendingPath();
+            this.steerTarget = null;
+            super.stop();
         }
 
         @Override
         public void tick() {
+            applyPendingPath();
+
+            // Stand at the border instead of walking into chunks that stopped ticking mid-path
+            if (this.path != null && !this.path.isDone() && !this.minotaur.isEntityTicking(this.path.getNextNodePos())) {
+                LabyrythmPerf.count(PerfSection.NAVIGATION_BORDER_STOP);
+                BlockPos goal = this.followedGoal != null ? this.followedGoal : this.targetPos;
+                this.stop();
+                if (goal != null) {
+                    this.minotaur.getPathRequests().recordFailure(goal);
+                }
+                return;
+            }
+
+            // Without a path WallClimberNavigation steers straight at its last target; only let it
+            // while that target is still allowed and ticking
+            if (this.isDone() && (this.steerTarget == null || !this.minotaur.isWithinLeash(this.steerTarget)
+                    || !this.minotaur.isEntityTicking(this.steerTarget))) {
+                return;
+            }
+
             super.tick();
 
             if (this.path != null && !this.path.isDone()) {
@@ -750,20 +1641,20 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         }
     }
 
-    private String determineAnimationState() {
+    private MinotaurAnimationState determineAnimationState() {
         if (this.isDashing()) {
-            return "run";
+            return MinotaurAnimationState.RUN;
         }
         
         if (this.isChasing()) {
-            return "run";
+            return MinotaurAnimationState.RUN;
         }
         
         LivingEntity target = this.getTarget();
         if (target != null) {
             double distSq = this.distanceToSqr(target);
             if (distSq > 3.5) {
-                return "run";
+                return MinotaurAnimationState.RUN;
             }
         }
         
@@ -774,26 +1665,66 @@ public class MinotaurEntity extends Monster implements NeutralMob, VibrationSyst
         }
         
         if (isMoving || this.lastSoundPosition != null) {
-            return "walk";
+            return MinotaurAnimationState.WALK;
         }
         
-        return "idle";
+        return MinotaurAnimationState.IDLE;
     }
 
-    public String getAnimationState() {
+    public MinotaurAnimationState getAnimationState() {
         if (this.getAttackTime() > 0) {
-            return "attack";
+            return MinotaurAnimationState.ATTACK;
         }
         
-        return determineAnimationState();
+        return MinotaurAnimationState.byId(this.entityData.get(ANIMATION_STATE));
+    }
+
+    private void updateClientAnimation() {
+        MinotaurAnimationState state = this.getAnimationState();
+        if (state == this.clientAnimationState) {
+            return;
+        }
+
+        AnimationState previous = this.clientAnimationState != null ? getAnimationStateFor(this.clientAnimationState) : null;
+        AnimationState next = getAnimationStateFor(state);
+        this.clientAnimationState = state;
+
+        if (previous != next) {
+            if (previous != null) {
+                previous.stop();
+            }
+            next.start(this.tickCount);
+        }
+    }
+
+    private AnimationState getAnimationStateFor(MinotaurAnimationState state) {
+        return switch (state) {
+            case IDLE -> idleAnimationState;
+            case WALK -> walkAnimationState;
+            case RUN, ATTACK -> dashAnimationState;
+        };
     }
 
     public int getAttackTime() {
-        return this.entityData.get(ATTACK_TIME);
+        if (this.level().isClientSide()) {
+            if (this.attackStartTick < 0) {
+                return 0;
+            }
+            return Math.max(0, this.attackStartTick + this.attackDurationTicks - this.tickCount);
+        }
+        return this.timers.getRemaining(MinotaurTimers.Timer.ATTACK, this.level().getGameTime());
     }
 
-    public void setAttackTime(int time) {
-        this.entityData.set(ATTACK_TIME, time);
+    @Override
+    public void handleEntityEvent(byte id) {
+        if (id == ATTACK_EVENT_ID) {
+            int duration = (int)(AnimationLoader.getAnimationLength("attack") * 20);
+            this.attackDurationTicks = duration > 0 ? duration : MAX_ATTACK_TIME;
+            this.attackStartTick = this.tickCount;
+            this.attackAnim = 0.0F;
+        } else {
+            super.handleEntityEvent(id);
+        }
     }
 
     @Override
@@ -0,0 +1,88 @@
+package com.github.sajmon.labyrythm.entity;
+
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+
+// Single issuing point for the minotaur's path requests: the entity tick, the patrol and
+// lost-target handlers and the brain's walk target behaviour all go through request().
+// Requests for the target that is already being followed are dropped, and targets that
+// failed to path, or only got a partial path, are not retried until an exponential
+// backoff has passed.
+public class MinotaurPathRequests {
+    private static final int BASE_BACKOFF_TICKS = 10;
+    private static final int MAX_BACKOFF_TICKS = 400;
+    private static final int MAX_FAILURES = 32;
+
+    private final MinotaurEntity minotaur;
+    private final Long2ObjectMap<Failure> failures = new Long2ObjectOpenHashMap<>();
+
+    public MinotaurPathRequests(MinotaurEntity minotaur) {
+        this.minotaur = minotaur;
+    }
+
+    public boolean request(BlockPos target, double speed) {
+        PathNavigation navigation = this.minotaur.getNavigation();
+        if (this.minotaur.isFollowingPathTo(target) || this.minotaur.isPathPendingFor(target)) {
+            LabyrythmPerf.count(PerfSection.PATH_REQUEST_SKIPPED);
+            return true;
+        }
+
+        long now = this.minotaur.level().getGameTime();
+        long key = target.asLong();
+        Failure failure = this.failures.get(key);
+        if (failure != null && now < failure.retryAt) {
+            LabyrythmPerf.count(PerfSection.PATH_REQUEST_SKIPPED);
+            return false;
+        }
+
+        if (navigation.moveTo(target.getX(), target.getY(), target.getZ(), speed)) {
+            if (this.minotaur.isPathReaching(target)) {
+                if (failure != null) {
+                    this.failures.remove(key);
+                }
+                return true;
+            }
+            // A partial or border-clamped path is still walked, but the target backs off like
+            // any other failure
+            recordFailure(target);
+            return false;
+        }
+        if (this.minotaur.isPathPendingFor(target)) {
+            // Submitted to a pathfinding worker; the result is applied by the navigation
+            return true;
+        }
+
+        recordFailure(target);
+        return false;
+    }
+
+    public void recordFailure(BlockPos target) {
+        long now = this.minotaur.level().getGameTime();
+        long key = target.asLong();
+        Failure failure = this.failures.get(key);
+        int attempts = failure != null ? failure.attempts + 1 : 1;
+        int backoff = Math.min(MAX_BACKOFF_TICKS, BASE_BACKOFF_TICKS << Math.min(attempts - 1, 10));
+        if (failure == null && this.failures.size() >= MAX_FAILURES) {
+            prune(now);
+        }
+        this.failures.put(key, new Failure(attempts, now + backoff));
+    }
+
+    public void clearFailure(BlockPos target) {
+        this.failures.remove(target.asLong());
+    }
+
+    private void prune(long now) {
+        this.failures.values().removeIf(failure -> failure.retryAt <= now);
+        if (this.failures.size() >= MAX_FAILURES) {
+            this.failures.clear();
+        }
+    }
+
+    private record Failure(int attempts, long retryAt) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.sajmon.labyrythm.entity;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+// Which entities the minotaur heard and when, as a fixed open-addressed table keyed on UUID.
+// Entries older than MAX_AGE_TICKS count as forgotten, and a full table evicts its oldest
+// entry, so the memory stays the same size however busy the server is.
+public class MinotaurPerceptionMemory {
+    public static final int CAPACITY = 16;
+    public static final long MAX_AGE_TICKS = 6000L;
+    // Keep the load factor low enough for linear probing to stay short
+    private static final int MAX_ENTRIES = CAPACITY * 3 / 4;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] most = new long[CAPACITY];
+    private final long[] least = new long[CAPACITY];
+    private final long[] heardAt = new long[CAPACITY];
+    private int size;
+
+    public MinotaurPerceptionMemory() {
+        Arrays.fill(this.heardAt, EMPTY);
+    }
+
+    public void record(UUID uuid, long gameTime) {
+        int slot = find(uuid);
+        if (slot >= 0) {
+            this.heardAt[slot] = gameTime;
+            return;
+        }
+
+        if (this.size >= MAX_ENTRIES) {
+            removeAt(oldestSlot());
+        }
+        insert(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), gameTime);
+    }
+
+    public boolean heardWithin(UUID uuid, long now, long ticks) {
+        int slot = find(uuid);
+        return slot >= 0 && now - this.heardAt[slot] <= Math.min(ticks, MAX_AGE_TICKS);
+    }
+
+    // Game time the entity was last heard, or -1 when it is not remembered
+    public long getLastHeard(UUID uuid) {
+        int slot = find(uuid);
+        return slot >= 0 ? this.heardAt[slot] : -1L;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        Arrays.fill(this.heardAt, EMPTY);
+        this.size = 0;
+    }
+
+    // Packed as (most, least, heardAt) triples; entries past MAX_AGE_TICKS are left out
+    public long[] save(long now) {
+        long[] packed = new long[this.size * 3];
+        int next = 0;
+        for (int slot = 0; slot < CAPACITY; slot++) {
+            if (this.heardAt[slot] != EMPTY && now - this.heardAt[slot] <= MAX_AGE_TICKS) {
+                packed[next++] = this.most[slot];
+                packed[next++] = this.least[slot];
+                packed[next++] = this.heardAt[slot];
+            }
+        }
+        return next == packed.length ? packed : Arrays.copyOf(packed, next);
+    }
+
+    public void load(long[] packed) {
+        clear();
+        for (int i = 0; i + 2 < packed.length && this.size < MAX_ENTRIES; i += 3) {
+            if (packed[i + 2] != EMPTY) {
+                insert(packed[i], packed[i + 1], packed[i + 2]);
+            }
+        }
+    }
+
+    private int find(UUID uuid) {
+        long mostBits = uuid.getMostSignificantBits();
+        long leastBits = uuid.getLeastSignificantBits();
+        for (int i = 0, slot = slotFor(mostBits, leastBits); i < CAPACITY; i++, slot = (slot + 1) & (CAPACITY - 1)) {
+            if (this.heardAt[slot] == EMPTY) {
+                return -1;
+            }
+            if (this.most[slot] == mostBits && this.least[slot] == leastBits) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long mostBits, long leastBits, long gameTime) {
+        int slot = slotFor(mostBits, leastBits);
+        while (this.heardAt[slot] != EMPTY) {
+            if (this.most[slot] == mostBits && this.least[slot] == leastBits) {
+                this.heardAt[slot] = Math.max(this.heardAt[slot], gameTime);
+                return;
+            }
+            slot = (slot + 1) & (CAPACITY - 1);
+        }
+        this.most[slot] = mostBits;
+        this.least[slot] = leastBits;
+        this.heardAt[slot] = gameTime;
+        this.size++;
+    }
+
+    private int oldestSlot() {
+        int oldest = -1;
+        for (int slot = 0; slot < CAPACITY; slot++) {
+            if (this.heardAt[slot] != EMPTY && (oldest < 0 || this.heardAt[slot] < this.heardAt[oldest])) {
+                oldest = slot;
+            }
+        }
+        return oldest;
+    }
+
+    // Backward-shift deletion: pull later entries of the probe run into the gap so lookups
+    // never stop early at it
+    private void removeAt(int slot) {
+        this.heardAt[slot] = EMPTY;
+        this.size--;
+
+        int gap = slot;
+        int next = (slot + 1) & (CAPACITY - 1);
+        while (this.heardAt[next] != EMPTY) {
+            int home = slotFor(this.most[next], this.least[next]);
+            // Move the entry if its home slot is not in (gap, next]
+            if (((next - home) & (CAPACITY - 1)) >= ((next - gap) & (CAPACITY - 1))) {
+                this.most[gap] = this.most[next];
+                this.least[gap] = this.least[next];
+                this.heardAt[gap] = this.heardAt[next];
+                this.heardAt[next] = EMPTY;
+                gap = next;
+            }
+            next = (next + 1) & (CAPACITY - 1);
+        }
+    }
+
+    private static int slotFor(long mostBits, long leastBits) {
+        long hash = mostBits ^ leastBits;
+        int mixed = (int) (hash ^ (hash >>> 32));
+        mixed ^= mixed >>> 16;
+        return mixed & (CAPACITY - 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.sajmon.labyrythm.entity;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Deadline table for the minotaur's timed behaviors, keyed on game time. tick() is a
+// single comparison until the earliest deadline passes, so idle timers cost nothing.
+public class MinotaurTimers {
+    private static final long UNSET = Long.MAX_VALUE;
+    private static final Timer[] TIMERS = Timer.values();
+
+    private final long[] deadlines = new long[TIMERS.length];
+    private final Consumer<Timer> onExpired;
+    private long nextDeadline = UNSET;
+
+    public MinotaurTimers(Consumer<Timer> onExpired) {
+        this.onExpired = onExpired;
+        Arrays.fill(this.deadlines, UNSET);
+    }
+
+    public void schedule(Timer timer, long now, int ticks) {
+        long deadline = now + ticks;
+        this.deadlines[timer.ordinal()] = deadline;
+        if (deadline < this.nextDeadline) {
+            this.nextDeadline = deadline;
+        } else {
+            recomputeNextDeadline();
+        }
+    }
+
+    public void scheduleIfAbsent(Timer timer, long now, int ticks) {
+        if (!isActive(timer, now)) {
+            schedule(timer, now, ticks);
+        }
+    }
+
+    public void cancel(Timer timer) {
+        if (this.deadlines[timer.ordinal()] != UNSET) {
+            this.deadlines[timer.ordinal()] = UNSET;
+            recomputeNextDeadline();
+        }
+    }
+
+    public boolean isActive(Timer timer, long now) {
+        return this.deadlines[timer.ordinal()] > now && this.deadlines[timer.ordinal()] != UNSET;
+    }
+
+    public int getRemaining(Timer timer, long now) {
+        long deadline = this.deadlines[timer.ordinal()];
+        if (deadline == UNSET || deadline <= now) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, deadline - now);
+    }
+
+    public void tick(long now) {
+        if (now < this.nextDeadline) {
+            return;
+        }
+
+        for (Timer timer : TIMERS) {
+            if (this.deadlines[timer.ordinal()] <= now) {
+                // Cleared before the callback so it can reschedule the same timer
+                this.deadlines[timer.ordinal()] = UNSET;
+                recomputeNextDeadline();
+                this.onExpired.accept(timer);
+            }
+        }
+    }
+
+    private void recomputeNextDeadline() {
+        long next = UNSET;
+        for (long deadline : this.deadlines) {
+            next = Math.min(next, deadline);
+        }
+        this.nextDeadline = next;
+    }
+
+    public enum Timer {
+        REGENERATION,
+        DASH_COOLDOWN,
+        DASH_DURATION,
+        SOUND_TRACKING,
+        VIBRATION_MEMORY,
+        ANGER,
+        ATTACK
+    }
+}
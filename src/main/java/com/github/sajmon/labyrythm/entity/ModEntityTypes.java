@@ -17,6 +17,9 @@ public class ModEntityTypes {
                     () -> EntityType.Builder.of(MinotaurEntity::new, MobCategory.MONSTER)
                             .sized(1.4F, 2.7F)
                             .fireImmune()
+                            // Motion is never synced on the tracker's update interval, only with impulses
+                            // (knockback, jumps); dashes arrive as DashStartPayload and clients predict them
+                            .setShouldReceiveVelocityUpdates(false)
                             .build(Labyrythm.MOD_ID + ":minotaur"));
 
     public static void register(IEventBus eventBus) {
@@ -0,0 +1,21 @@
+package com.github.sajmon.labyrythm.entity;
+
+import com.github.sajmon.labyrythm.Labyrythm;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.ai.sensing.SensorType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+import java.util.function.Supplier;
+
+public class ModSensorTypes {
+    public static final DeferredRegister<SensorType<?>> SENSOR_TYPES =
+            DeferredRegister.create(BuiltInRegistries.SENSOR_TYPE, Labyrythm.MOD_ID);
+
+    public static final Supplier<SensorType<LabyrinthOccupantSensor>> LABYRINTH_OCCUPANTS = SENSOR_TYPES.register(
+            "labyrinth_occupants", () -> new SensorType<>(LabyrinthOccupantSensor::new));
+
+    public static void register(IEventBus modEventBus) {
+        SENSOR_TYPES.register(modEventBus);
+    }
+}
@@ -2,20 +2,19 @@ package com.github.sajmon.labyrythm.event;
 
 import com.github.sajmon.labyrythm.Labyrythm;
 import com.github.sajmon.labyrythm.entity.MinotaurEntity;
-import com.github.sajmon.labyrythm.structures.ModStructures;
+import com.github.sajmon.labyrythm.perf.LabyrinthCheckEvent;
+import com.github.sajmon.labyrythm.structures.LabyrinthLayouts;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.registries.Registries;
-import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.levelgen.structure.Structure;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,52 +31,48 @@ public class LabyrinthEffectsManager {
     private static final boolean AMBIENT_EFFECT = true;
     
     public static void checkPlayerInLabyrinth(ServerPlayer player, ServerLevel level) {
-        BlockPos playerPos = player.blockPosition();
-        UUID playerId = player.getUUID();
-        
-        boolean isInLabyrinth = false;
+        ProfilerFiller profiler = level.getProfiler();
+        profiler.push("labyrinthEffects");
+        LabyrinthCheckEvent jfrEvent = new LabyrinthCheckEvent();
+        jfrEvent.begin();
+
         try {
-            isInLabyrinth = isPositionInLabyrinth(playerPos, level);
-        } catch (Exception e) {
-            return;
-        }
-        
-        Boolean wasInLabyrinth = playerInLabyrinth.get(playerId);
-        
-        if (isInLabyrinth) {
-            if (wasInLabyrinth == null || !wasInLabyrinth) {
-                onPlayerEnterLabyrinth(player);
-                playerInLabyrinth.put(playerId, true);
-            } else {
-                refreshLabyrinthEffects(player);
+            BlockPos playerPos = player.blockPosition();
+            UUID playerId = player.getUUID();
+            
+            boolean isInLabyrinth = false;
+            try {
+                isInLabyrinth = isPositionInLabyrinth(playerPos, level);
+            } catch (Exception e) {
+                return;
+            }
+            jfrEvent.inside = isInLabyrinth;
+            
+            Boolean wasInLabyrinth = playerInLabyrinth.get(playerId);
+            
+            if (isInLabyrinth) {
+                if (wasInLabyrinth == null || !wasInLabyrinth) {
+                    onPlayerEnterLabyrinth(player);
+                    playerInLabyrinth.put(playerId, true);
+                } else {
+                    refreshLabyrinthEffects(player);
+                }
+            } else if (wasInLabyrinth != null && wasInLabyrinth) {
+                onPlayerExitLabyrinth(player);
+                playerInLabyrinth.put(playerId, false);
+            }
+        } finally {
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.player = player.getGameProfile().getName();
+                jfrEvent.commit();
             }
-        } else if (wasInLabyrinth != null && wasInLabyrinth) {
-            onPlayerExitLabyrinth(player);
-            playerInLabyrinth.put(playerId, false);
+            profiler.pop();
         }
     }
     
     private static boolean isPositionInLabyrinth(BlockPos pos, ServerLevel level) {
         try {
-            ResourceKey<Structure> labyrinthKey = ModStructures.MINOTAURS_LABYRINTH_KEY;
-            
-            var structureRegistry = level.registryAccess().registryOrThrow(Registries.STRUCTURE);
-            
-            var structureHolder = structureRegistry.getHolder(labyrinthKey);
-            
-            if (structureHolder.isEmpty()) {
-                return false;
-            }
-            
-            Structure structure = structureHolder.get().value();
-            
-            if (structure == null) {
-                return false;
-            }
-            
-            var structureStart = level.structureManager().getStructureAt(pos, structure);
-            
-            return structureStart.isValid();
+            return LabyrinthLayouts.isInsideCorridor(level, pos);
         } catch (Exception e) {
             return false;
         }
@@ -1,10 +1,22 @@
 package com.github.sajmon.labyrythm.event;
 
+import com.github.sajmon.labyrythm.Config;
 import com.github.sajmon.labyrythm.Labyrythm;
+import com.github.sajmon.labyrythm.command.LabyrythmCommand;
+import com.github.sajmon.labyrythm.entity.LabyrinthDirectors;
+import com.github.sajmon.labyrythm.pathfinding.AsyncPathfinder;
+import com.github.sajmon.labyrythm.perf.AiLoadController;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.Entity;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.neoforged.neoforge.event.VanillaGameEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 
@@ -32,4 +44,39 @@ public class ModEvents {
             LabyrinthEffectsManager.onPlayerLogout(player);
         }
     }
+    
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        LabyrythmCommand.register(event.getDispatcher());
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        AsyncPathfinder.shutdown();
+        LabyrinthDirectors.clear();
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LabyrinthDirectors.tick(serverLevel);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onVanillaGameEvent(VanillaGameEvent event) {
+        if (Config.acousticRouting && event.getLevel() instanceof ServerLevel serverLevel) {
+            LabyrinthDirectors.onGameEvent(serverLevel, event.getVanillaEvent(), event.getEventPosition(), event.getContext());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        AiLoadController.update(event.getServer());
+
+        int interval = Config.perfLogIntervalTicks;
+        if (interval > 0 && event.getServer().getTickCount() % interval == 0) {
+            LabyrythmPerf.logReport();
+        }
+    }
 }
\ No newline at end of file
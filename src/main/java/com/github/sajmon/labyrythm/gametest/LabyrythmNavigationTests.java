@@ -0,0 +1,82 @@
+package com.github.sajmon.labyrythm.gametest;
+
+import com.github.sajmon.labyrythm.Labyrythm;
+import com.github.sajmon.labyrythm.entity.MinotaurEntity;
+import com.github.sajmon.labyrythm.entity.ModEntityTypes;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.npc.Villager;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.Locale;
+
+// Behaviour checks for MinotaurEntity.MinotaurNavigation that only show up in a running world
+@GameTestHolder(Labyrythm.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class LabyrythmNavigationTests {
+    private static final String LABYRINTH_AREA = "gametest/labyrinth_area";
+
+    // Only the test area's own chunks are force-loaded, so the terrain past them is loaded but
+    // not entity-ticking; spawn chunks can push that border a few chunks further out
+    private static final int BORDER_SEARCH_BLOCKS = 96;
+    private static final int START_BEFORE_BORDER = 16;
+    private static final int TARGET_PAST_BORDER = 12;
+    private static final int CHASE_TICKS = 160;
+    private static final double MAX_STOP_DISTANCE = 8.0D;
+
+    // A target past the entity-ticking border is chased up to the border and no further
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_navigation_border", timeoutTicks = 300)
+    public static void chaseStopsAtTickingBorder(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        BlockPos origin = helper.absolutePos(new BlockPos(24, 0, 24));
+
+        int borderX = Integer.MIN_VALUE;
+        for (int x = origin.getX(); x <= origin.getX() + BORDER_SEARCH_BLOCKS; x++) {
+            if (!level.isPositionEntityTicking(new BlockPos(x, origin.getY(), origin.getZ()))) {
+                borderX = x;
+                break;
+            }
+        }
+        if (borderX == Integer.MIN_VALUE) {
+            helper.fail("No entity-ticking border within " + BORDER_SEARCH_BLOCKS + " blocks of the test area");
+            return;
+        }
+
+        BlockPos start = new BlockPos(Math.max(origin.getX(), borderX - START_BEFORE_BORDER), origin.getY(), origin.getZ());
+        BlockPos targetPos = new BlockPos(borderX + TARGET_PAST_BORDER, origin.getY(), origin.getZ());
+
+        Villager target = EntityType.VILLAGER.create(level);
+        target.moveTo(targetPos.getX() + 0.5D, targetPos.getY(), targetPos.getZ() + 0.5D);
+        target.setNoAi(true);
+        // Resistance V keeps the target alive without making it invulnerable, which minotaurs ignore
+        target.addEffect(new MobEffectInstance(MobEffects.DAMAGE_RESISTANCE, MobEffectInstance.INFINITE_DURATION, 4));
+        level.addFreshEntity(target);
+
+        MinotaurEntity minotaur = helper.spawn(ModEntityTypes.MINOTAUR.get(), helper.relativePos(start));
+        minotaur.hurt(level.damageSources().mobAttack(target), 1.0F);
+
+        int border = borderX;
+        helper.runAtTickTime(CHASE_TICKS, () -> {
+            BlockPos stopped = minotaur.blockPosition();
+            double distance = border - minotaur.getX();
+            minotaur.discard();
+            target.discard();
+
+            if (!level.isPositionEntityTicking(stopped)) {
+                helper.fail("Minotaur walked past the entity-ticking border to " + stopped.toShortString());
+                return;
+            }
+            if (distance > MAX_STOP_DISTANCE) {
+                helper.fail(String.format(Locale.ROOT, "Minotaur stopped %.1f blocks short of the border", distance));
+                return;
+            }
+            helper.succeed();
+        });
+    }
+}
@@ -0,0 +1,293 @@
+package com.github.sajmon.labyrythm.gametest;
+
+import com.github.sajmon.labyrythm.Labyrythm;
+import com.github.sajmon.labyrythm.entity.MinotaurEntity;
+import com.github.sajmon.labyrythm.entity.ModEntityTypes;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.NanoHistogram;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import com.github.sajmon.labyrythm.structures.LabyrinthLayouts;
+import com.github.sajmon.labyrythm.structures.pieces.MinotaursLabyrinthPieces;
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.npc.Villager;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import net.minecraft.world.level.levelgen.structure.pieces.PiecesContainer;
+import net.minecraft.world.level.levelgen.structure.pieces.StructurePiecesBuilder;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Locale;
+
+// MSPT regression gate. Every test runs in its own batch so no other test shares its ticks,
+// checks an absolute budget and then compares against the stored PerfBaseline.
+@GameTestHolder(Labyrythm.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class LabyrythmPerfTests {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String LABYRINTH_AREA = "gametest/labyrinth_area";
+
+    private static final int WARMUP_TICKS = 40;
+    // MinecraftServer averages tick times over the last 100 ticks
+    private static final int MEASURE_TICKS = 100;
+
+    private static final int LABYRINTH_RUNS = 8;
+    private static final int LABYRINTH_SIZE = 25;
+    private static final double MIN_CHUNKS_PER_SECOND = 200.0D;
+
+    private static final int CHASER_COUNT = 48;
+    private static final long CHASER_BUDGET_NANOS = 50_000_000L;
+
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_perf_crowd_1", timeoutTicks = 300)
+    public static void minotaurCrowdOf1(GameTestHelper helper) {
+        runCrowd(helper, 1, true, 10_000_000L);
+    }
+
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_perf_crowd_50", timeoutTicks = 300)
+    public static void minotaurCrowdOf50(GameTestHelper helper) {
+        runCrowd(helper, 50, true, 25_000_000L);
+    }
+
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_perf_crowd_500", timeoutTicks = 300)
+    public static void minotaurCrowdOf500(GameTestHelper helper) {
+        runCrowd(helper, 500, true, 50_000_000L);
+    }
+
+    // The same crowd with nobody around, so every minotaur drops into the dormant tick mode
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_perf_crowd_500_dormant", timeoutTicks = 300)
+    public static void dormantCrowdOf500(GameTestHelper helper) {
+        runCrowd(helper, 500, false, 20_000_000L);
+    }
+
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_perf_chunks", timeoutTicks = 100)
+    public static void labyrinthChunkPlacement(GameTestHelper helper) {
+        int chunks = 0;
+        long start = System.nanoTime();
+
+        for (int run = 0; run < LABYRINTH_RUNS; run++) {
+            chunks += placeLabyrinth(helper, run).chunks();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0D;
+        double chunksPerSecond = chunks / Math.max(seconds, 1.0E-9D);
+        helper.killAllEntitiesOfClass(MinotaurEntity.class);
+
+        if (chunksPerSecond < MIN_CHUNKS_PER_SECOND) {
+            helper.fail(String.format(Locale.ROOT, "Placed %.1f labyrinth chunks/s, floor is %.1f", chunksPerSecond, MIN_CHUNKS_PER_SECOND));
+            return;
+        }
+
+        String regression = PerfBaseline.check("labyrinth_chunks.perSecond", chunksPerSecond, true);
+        if (regression != null) {
+            helper.fail(regression);
+            return;
+        }
+        helper.succeed();
+    }
+
+    // Dozens of minotaurs chasing one target through a generated maze, so path searches
+    // run long corridor routes concurrently on the pathfinding workers
+    @GameTest(template = LABYRINTH_AREA, batch = "labyrythm_perf_chasers", timeoutTicks = 300)
+    public static void concurrentChasers(GameTestHelper helper) {
+        MinecraftServer server = helper.getLevel().getServer();
+        List<StructurePiece> pieces = placeLabyrinth(helper, 0L).pieces();
+        StructureStart start = registerStart(helper, pieces);
+
+        BlockPos targetPos = helper.relativePos(pieceFloor(pieces.get(0)));
+        Villager target = helper.spawn(EntityType.VILLAGER, targetPos);
+        target.setNoAi(true);
+        // Resistance V keeps the target alive without making it invulnerable, which minotaurs ignore
+        target.addEffect(new MobEffectInstance(MobEffects.DAMAGE_RESISTANCE, MobEffectInstance.INFINITE_DURATION, 4));
+
+        for (int i = 0; i < CHASER_COUNT; i++) {
+            StructurePiece piece = pieces.get(pieces.size() - 1 - i % Math.max(1, pieces.size() - 1));
+            MinotaurEntity minotaur = helper.spawn(ModEntityTypes.MINOTAUR.get(), helper.relativePos(pieceFloor(piece)));
+            minotaur.hurt(helper.getLevel().damageSources().mobAttack(target), 1.0F);
+        }
+
+        helper.runAtTickTime(WARMUP_TICKS, LabyrythmPerf::reset);
+        helper.runAtTickTime(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            long averageNanos = server.getAverageTickTimeNanos();
+            // Snapshots are the part of an async search the server thread still pays for
+            NanoHistogram snapshots = PerfSection.PATH_SNAPSHOT.getHistogram();
+            long snapshotNanos = snapshots.getMeanNanos();
+            LOGGER.info("{} chasers: {} path snapshots, mean {} ns, p99 {} ns, {} searches", CHASER_COUNT,
+                    PerfSection.PATH_SNAPSHOT.getCalls(), snapshotNanos, snapshots.getPercentileNanos(0.99),
+                    PerfSection.PATHFINDING.getCalls());
+            helper.killAllEntitiesOfClass(MinotaurEntity.class);
+            helper.killAllEntitiesOfClass(Villager.class);
+            unregisterStart(helper, start);
+
+            if (averageNanos > CHASER_BUDGET_NANOS) {
+                helper.fail(String.format(Locale.ROOT, "%d chasers averaged %.2f ms/tick, budget is %.2f ms",
+                        CHASER_COUNT, averageNanos / 1_000_000.0D, CHASER_BUDGET_NANOS / 1_000_000.0D));
+                return;
+            }
+
+            String regression = PerfBaseline.check("chasers_" + CHASER_COUNT + ".tickNanos", averageNanos, false);
+            if (regression == null && snapshots.getSamples() > 0) {
+                regression = PerfBaseline.check("chasers_" + CHASER_COUNT + ".snapshotNanos", snapshotNanos, false);
+            }
+            if (regression != null) {
+                helper.fail(regression);
+                return;
+            }
+            helper.succeed();
+        });
+    }
+
+    private static PlacedLabyrinth placeLabyrinth(GameTestHelper helper, long seed) {
+        ServerLevel level = helper.getLevel();
+        ChunkGenerator generator = level.getChunkSource().getGenerator();
+        BlockPos origin = helper.absolutePos(BlockPos.ZERO);
+        BoundingBox area = BoundingBox.fromCorners(origin, helper.absolutePos(new BlockPos(47, 47, 47)));
+        // Top level at y+22 leaves room for up to four levels below and the well above
+        BlockPos center = helper.absolutePos(new BlockPos(24, 22, 24));
+
+        RandomSource random = RandomSource.create(seed);
+        StructurePiecesBuilder builder = new StructurePiecesBuilder();
+        MinotaursLabyrinthPieces.addPieces(builder, center, Rotation.NONE, random, LABYRINTH_SIZE, level.getStructureManager());
+        PiecesContainer pieces = builder.build();
+        BoundingBox box = pieces.calculateBoundingBox();
+        int chunks = 0;
+
+        for (int chunkX = box.minX() >> 4; chunkX <= box.maxX() >> 4; chunkX++) {
+            for (int chunkZ = box.minZ() >> 4; chunkZ <= box.maxZ() >> 4; chunkZ++) {
+                ChunkPos chunkPos = new ChunkPos(chunkX, chunkZ);
+                BoundingBox chunkBox = new BoundingBox(
+                        Math.max(chunkPos.getMinBlockX(), area.minX()), area.minY(), Math.max(chunkPos.getMinBlockZ(), area.minZ()),
+                        Math.min(chunkPos.getMaxBlockX(), area.maxX()), area.maxY(), Math.min(chunkPos.getMaxBlockZ(), area.maxZ()));
+
+                if (chunkBox.minX() > chunkBox.maxX() || chunkBox.minZ() > chunkBox.maxZ()) {
+                    continue;
+                }
+
+                for (StructurePiece piece : pieces.pieces()) {
+                    if (piece.getBoundingBox().intersects(chunkBox)) {
+                        piece.postProcess(level, level.structureManager(), generator, random, chunkBox, chunkPos, center);
+                    }
+                }
+                chunks++;
+            }
+        }
+        return new PlacedLabyrinth(pieces.pieces(), chunks);
+    }
+
+    // Registers placed pieces as a labyrinth start, the way worldgen would, so minotaurs standing
+    // in them adopt the labyrinth and its leash, routing and shared perception engage
+    private static StructureStart registerStart(GameTestHelper helper, List<StructurePiece> pieces) {
+        ServerLevel level = helper.getLevel();
+        Structure structure = LabyrinthLayouts.getStructure(level);
+        if (structure == null) {
+            return StructureStart.INVALID_START;
+        }
+
+        PiecesContainer container = new PiecesContainer(pieces);
+        BoundingBox box = container.calculateBoundingBox();
+        ChunkPos startChunk = new ChunkPos(box.getCenter());
+        StructureStart start = new StructureStart(structure, startChunk, 0, container);
+        level.getChunk(startChunk.x, startChunk.z).setStartForStructure(structure, start);
+        for (int chunkX = box.minX() >> 4; chunkX <= box.maxX() >> 4; chunkX++) {
+            for (int chunkZ = box.minZ() >> 4; chunkZ <= box.maxZ() >> 4; chunkZ++) {
+                level.getChunk(chunkX, chunkZ).addReferenceForStructure(structure, startChunk.toLong());
+            }
+        }
+        return start;
+    }
+
+    // Test batches reuse the same area, so the start must not outlive its test
+    private static void unregisterStart(GameTestHelper helper, StructureStart start) {
+        if (!start.isValid()) {
+            return;
+        }
+
+        ServerLevel level = helper.getLevel();
+        Structure structure = start.getStructure();
+        BoundingBox box = start.getBoundingBox();
+        long startId = start.getChunkPos().toLong();
+        for (int chunkX = box.minX() >> 4; chunkX <= box.maxX() >> 4; chunkX++) {
+            for (int chunkZ = box.minZ() >> 4; chunkZ <= box.maxZ() >> 4; chunkZ++) {
+                level.getChunk(chunkX, chunkZ).getReferencesForStructure(structure).remove(startId);
+            }
+        }
+        level.getChunk(start.getChunkPos().x, start.getChunkPos().z).setStartForStructure(structure, StructureStart.INVALID_START);
+    }
+
+    private static BlockPos pieceFloor(StructurePiece piece) {
+        BoundingBox box = piece.getBoundingBox();
+        return new BlockPos(box.minX() + 3, box.minY() + 1, box.minZ() + 3);
+    }
+
+    // A headless test server has no players, so an awake crowd needs a mock one in the labyrinth.
+    // It is in creative mode, which keeps the minotaurs awake without giving them a target.
+    private static void runCrowd(GameTestHelper helper, int count, boolean awake, long budgetNanos) {
+        MinecraftServer server = helper.getLevel().getServer();
+        List<StructurePiece> pieces = placeLabyrinth(helper, 0L).pieces();
+        StructureStart start = registerStart(helper, pieces);
+        String name = awake ? "crowd_" + count : "crowd_" + count + "_dormant";
+
+        ServerPlayer player = null;
+        if (awake) {
+            BlockPos playerPos = pieceFloor(pieces.get(0));
+            player = helper.makeMockServerPlayerInLevel();
+            player.teleportTo(playerPos.getX() + 0.5D, playerPos.getY(), playerPos.getZ() + 0.5D);
+        }
+        ServerPlayer mockPlayer = player;
+
+        // Spread over the labyrinth's cells, a few per cell around its centre
+        for (int i = 0; i < count; i++) {
+            int slot = i / pieces.size();
+            BlockPos pos = pieceFloor(pieces.get(i % pieces.size())).offset(slot % 3 - 1, 0, slot / 3 % 3 - 1);
+            helper.spawn(ModEntityTypes.MINOTAUR.get(), helper.relativePos(pos));
+        }
+
+        helper.runAtTickTime(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            long averageNanos = server.getAverageTickTimeNanos();
+            // Make sure the crowd was in the mode this test measures
+            long dormant = helper.getLevel().getEntities(ModEntityTypes.MINOTAUR.get(), MinotaurEntity::isDormant).size();
+            helper.killAllEntitiesOfClass(MinotaurEntity.class);
+            unregisterStart(helper, start);
+            if (mockPlayer != null) {
+                server.getPlayerList().remove(mockPlayer);
+            }
+
+            if (dormant != (awake ? 0 : count)) {
+                helper.fail(String.format(Locale.ROOT, "%d of %d minotaurs were dormant in the %s crowd",
+                        dormant, count, awake ? "awake" : "dormant"));
+                return;
+            }
+            if (averageNanos > budgetNanos) {
+                helper.fail(String.format(Locale.ROOT, "%d minotaurs averaged %.2f ms/tick, budget is %.2f ms",
+                        count, averageNanos / 1_000_000.0D, budgetNanos / 1_000_000.0D));
+                return;
+            }
+
+            String regression = PerfBaseline.check(name + ".tickNanos", averageNanos, false);
+            if (regression != null) {
+                helper.fail(regression);
+                return;
+            }
+            helper.succeed();
+        });
+    }
+
+    private record PlacedLabyrinth(List<StructurePiece> pieces, int chunks) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.sajmon.labyrythm.gametest;
+
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
+
+// Reference result of each perf game test, checked in as RESOURCE. Runs fail when they regress
+// past the stored value by more than TOLERANCE; a test without a stored value only logs its
+// result. To re-record after an intended change, run runGameTestServer with
+// -Plabyrythm.perf.updateBaseline=true, which writes every result to the labyrythm.perf.baselineFile
+// set by the run config, and commit the file.
+public class PerfBaseline {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String RESOURCE = "/data/labyrythm/gametest/perf_baseline.properties";
+    private static final double TOLERANCE = 0.25D;
+    private static final boolean UPDATE = Boolean.getBoolean("labyrythm.perf.updateBaseline");
+
+    private static Properties properties;
+
+    // Returns an error message when value is worse than the baseline, or null when it passes.
+    public static synchronized String check(String key, double value, boolean higherIsBetter) {
+        Properties baseline = load();
+        String stored = baseline.getProperty(key);
+
+        if (UPDATE) {
+            baseline.setProperty(key, Double.toString(value));
+            save(baseline);
+            LOGGER.info("Recorded perf baseline {} = {}", key, value);
+            return null;
+        }
+        if (stored == null) {
+            LOGGER.info("No perf baseline for {}, measured {}", key, value);
+            return null;
+        }
+
+        double reference;
+        try {
+            reference = Double.parseDouble(stored);
+        } catch (NumberFormatException e) {
+            return "Invalid perf baseline for " + key + ": " + stored;
+        }
+
+        boolean regressed = higherIsBetter
+                ? value < reference * (1.0D - TOLERANCE)
+                : value > reference * (1.0D + TOLERANCE);
+
+        if (regressed) {
+            return String.format(Locale.ROOT, "%s regressed: %.1f against baseline %.1f", key, value, reference);
+        }
+        return null;
+    }
+
+    private static Properties load() {
+        if (properties == null) {
+            properties = new Properties();
+            try (InputStream stream = PerfBaseline.class.getResourceAsStream(RESOURCE)) {
+                if (stream != null) {
+                    properties.load(stream);
+                } else {
+                    LOGGER.warn("Perf baseline {} is missing", RESOURCE);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read perf baseline {}", RESOURCE, e);
+            }
+        }
+        return properties;
+    }
+
+    private static void save(Properties baseline) {
+        String target = System.getProperty("labyrythm.perf.baselineFile");
+        if (target == null) {
+            LOGGER.warn("Set labyrythm.perf.baselineFile to write the perf baseline");
+            return;
+        }
+
+        Path file = Path.of(target);
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                baseline.store(writer, "Labyrythm perf game test baseline");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write perf baseline {}", file, e);
+        }
+    }
+}
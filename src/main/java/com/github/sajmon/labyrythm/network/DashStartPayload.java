@@ -0,0 +1,39 @@
+package com.github.sajmon.labyrythm.network;
+
+import com.github.sajmon.labyrythm.Labyrythm;
+import com.github.sajmon.labyrythm.entity.MinotaurEntity;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+// A minotaur dash as one trajectory: where it starts, its initial velocity and how long it
+// lasts. Sent when a dash starts and again only when the server's motion drifts from it.
+public record DashStartPayload(int entityId, Vec3 start, Vec3 velocity, int durationTicks) implements CustomPacketPayload {
+    public static final Type<DashStartPayload> TYPE = new Type<>(ResourceLocation.fromNamespaceAndPath(Labyrythm.MOD_ID, "dash_start"));
+    public static final StreamCodec<FriendlyByteBuf, DashStartPayload> STREAM_CODEC = StreamCodec.ofMember(DashStartPayload::write, DashStartPayload::new);
+
+    private DashStartPayload(FriendlyByteBuf buf) {
+        this(buf.readVarInt(), buf.readVec3(), buf.readVec3(), buf.readVarInt());
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(this.entityId);
+        buf.writeVec3(this.start);
+        buf.writeVec3(this.velocity);
+        buf.writeVarInt(this.durationTicks);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    public static void handle(DashStartPayload payload, IPayloadContext context) {
+        if (context.player().level().getEntity(payload.entityId()) instanceof MinotaurEntity minotaur) {
+            minotaur.startClientDash(payload.start(), payload.velocity(), payload.durationTicks());
+        }
+    }
+}
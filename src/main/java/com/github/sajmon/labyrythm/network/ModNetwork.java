@@ -0,0 +1,13 @@
+package com.github.sajmon.labyrythm.network;
+
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+public class ModNetwork {
+    private static final String PROTOCOL_VERSION = "1";
+
+    public static void register(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(DashStartPayload.TYPE, DashStartPayload.STREAM_CODEC, DashStartPayload::handle);
+    }
+}
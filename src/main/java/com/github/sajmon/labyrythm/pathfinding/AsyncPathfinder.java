@@ -0,0 +1,59 @@
+package com.github.sajmon.labyrythm.pathfinding;
+
+import com.github.sajmon.labyrythm.Config;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import com.mojang.logging.LogUtils;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.pathfinder.PathFinder;
+import org.slf4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Worker pool for minotaur path searches. Each search gets a PathRequest captured on the
+// server thread and builds its own PathFinder around it, so workers share no mutable state
+// with each other, the server thread or the live mob.
+public class AsyncPathfinder {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private static ExecutorService executor;
+
+    public static CompletableFuture<Path> submit(PathRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            long perfStart = LabyrythmPerf.begin(PerfSection.PATHFINDING);
+            try {
+                PathFinder pathFinder = new PathFinder(new SnapshotNodeEvaluator(request), request.getMaxVisitedNodes());
+                // The search reads the request's copy of the mob, never the live one
+                return pathFinder.findPath(request.getRegion(), request.getMob(), request.getTargets(),
+                        request.getMaxRange(), request.getAccuracy(), 1.0F);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Minotaur path search failed", e);
+                return null;
+            } finally {
+                LabyrythmPerf.end(PerfSection.PATHFINDING, perfStart);
+            }
+        }, getExecutor());
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(1, Config.pathfindingThreads), runnable -> {
+                Thread thread = new Thread(runnable, "Labyrythm-Pathfinder-" + THREAD_ID.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.sajmon.labyrythm.pathfinding;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+// Immutable copy of the block states a path search can reach. Built on the server thread,
+// then read by a pathfinding worker; the live chunks are dropped once the sections are copied.
+public class PathRegionSnapshot extends PathNavigationRegion {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    private static final BlockState VOID_AIR = Blocks.VOID_AIR.defaultBlockState();
+
+    private final int sizeX;
+    private final int sizeZ;
+    private final int minSectionY;
+    private final int sectionCount;
+    private final boolean[] loaded;
+    private final PalettedContainer<BlockState>[] sections;
+
+    @SuppressWarnings("unchecked")
+    public PathRegionSnapshot(Level level, BlockPos from, BlockPos to) {
+        super(level, from, to);
+        this.sizeX = this.chunks.length;
+        this.sizeZ = this.sizeX > 0 ? this.chunks[0].length : 0;
+
+        // One section of margin either way for the collision checks at the edge of the search
+        int minIndex = Mth.clamp(level.getSectionIndex(Math.min(from.getY(), to.getY())) - 1, 0, level.getSectionsCount() - 1);
+        int maxIndex = Mth.clamp(level.getSectionIndex(Math.max(from.getY(), to.getY())) + 1, 0, level.getSectionsCount() - 1);
+        this.minSectionY = level.getSectionYFromSectionIndex(minIndex);
+        this.sectionCount = maxIndex - minIndex + 1;
+        this.loaded = new boolean[this.sizeX * this.sizeZ];
+        this.sections = new PalettedContainer[this.sizeX * this.sizeZ * this.sectionCount];
+
+        for (int x = 0; x < this.sizeX; x++) {
+            for (int z = 0; z < this.sizeZ; z++) {
+                ChunkAccess chunk = this.chunks[x][z];
+                if (chunk == null) {
+                    continue;
+                }
+
+                int column = z * this.sizeX + x;
+                LevelChunkSection[] chunkSections = chunk.getSections();
+                for (int i = 0; i < this.sectionCount; i++) {
+                    LevelChunkSection section = chunkSections[minIndex + i];
+                    if (!section.hasOnlyAir()) {
+                        this.sections[column * this.sectionCount + i] = section.getStates().copy();
+                    }
+                }
+                this.loaded[column] = true;
+                this.chunks[x][z] = null;
+            }
+        }
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        if (this.isOutsideBuildHeight(pos)) {
+            return AIR;
+        }
+
+        int x = SectionPos.blockToSectionCoord(pos.getX()) - this.centerX;
+        int z = SectionPos.blockToSectionCoord(pos.getZ()) - this.centerZ;
+        int y = SectionPos.blockToSectionCoord(pos.getY()) - this.minSectionY;
+        if (x < 0 || x >= this.sizeX || z < 0 || z >= this.sizeZ || y < 0 || y >= this.sectionCount) {
+            return VOID_AIR;
+        }
+
+        int column = z * this.sizeX + x;
+        if (!this.loaded[column]) {
+            return VOID_AIR;
+        }
+
+        PalettedContainer<BlockState> states = this.sections[column * this.sectionCount + y];
+        return states != null ? states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15) : AIR;
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return this.getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Nullable
+    @Override
+    public BlockGetter getChunkForCollisions(int chunkX, int chunkZ) {
+        return this;
+    }
+
+    // The level profiler belongs to the server thread
+    @Override
+    public ProfilerFiller getProfiler() {
+        return InactiveProfiler.INSTANCE;
+    }
+}
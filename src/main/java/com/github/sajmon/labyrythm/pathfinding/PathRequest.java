@@ -0,0 +1,76 @@
+package com.github.sajmon.labyrythm.pathfinding;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.NodeEvaluator;
+
+import java.util.Set;
+
+// Everything a path search reads, captured on the server thread when the search is submitted.
+// Workers only see this, the region snapshot and the mob copy, never the live Mob.
+public final class PathRequest {
+    private final PathfindingMob mob;
+    private final PathRegionSnapshot region;
+    private final Set<BlockPos> targets;
+    private final float maxRange;
+    private final int accuracy;
+    private final int maxVisitedNodes;
+    private final boolean canPassDoors;
+    private final boolean canOpenDoors;
+    private final boolean canFloat;
+    private final boolean canWalkOverFences;
+
+    // Server thread only; `flags` is the navigation's own evaluator, read for its door and float settings
+    public PathRequest(PathfindingMob mob, NodeEvaluator flags, PathRegionSnapshot region, Set<BlockPos> targets,
+                       float maxRange, int accuracy, int maxVisitedNodes) {
+        this.mob = mob;
+        this.region = region;
+        this.targets = Set.copyOf(targets);
+        this.maxRange = maxRange;
+        this.accuracy = accuracy;
+        this.maxVisitedNodes = maxVisitedNodes;
+        this.canPassDoors = flags.canPassDoors();
+        this.canOpenDoors = flags.canOpenDoors();
+        this.canFloat = flags.canFloat();
+        this.canWalkOverFences = flags.canWalkOverFences();
+    }
+
+    public PathfindingMob getMob() {
+        return this.mob;
+    }
+
+    public PathRegionSnapshot getRegion() {
+        return this.region;
+    }
+
+    public Set<BlockPos> getTargets() {
+        return this.targets;
+    }
+
+    public float getMaxRange() {
+        return this.maxRange;
+    }
+
+    public int getAccuracy() {
+        return this.accuracy;
+    }
+
+    public int getMaxVisitedNodes() {
+        return this.maxVisitedNodes;
+    }
+
+    public boolean canPassDoors() {
+        return this.canPassDoors;
+    }
+
+    public boolean canOpenDoors() {
+        return this.canOpenDoors;
+    }
+
+    public boolean canFloat() {
+        return this.canFloat;
+    }
+
+    public boolean canWalkOverFences() {
+        return this.canWalkOverFences;
+    }
+}
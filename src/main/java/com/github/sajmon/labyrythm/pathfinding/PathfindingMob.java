@@ -0,0 +1,52 @@
+package com.github.sajmon.labyrythm.pathfinding;
+
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.PathType;
+
+// Detached copy of a mob for WalkNodeEvaluator to read on a pathfinding worker. It is never
+// added to the level; copyFrom runs on the server thread right before a search is submitted.
+public class PathfindingMob extends Mob {
+    private static final PathType[] PATH_TYPES = PathType.values();
+
+    private float copiedMaxUpStep;
+    private int copiedMaxFallDistance;
+
+    public PathfindingMob(EntityType<? extends Mob> type, Level level) {
+        super(type, level);
+    }
+
+    // A search cancelled by a newer request may still be reading the previous copy, but its
+    // result is dropped, so only the live request ever relies on what is written here
+    public PathfindingMob copyFrom(Mob mob) {
+        AttributeInstance scale = this.getAttribute(Attributes.SCALE);
+        if (scale != null && scale.getValue() != mob.getScale()) {
+            scale.setBaseValue(mob.getScale());
+            this.refreshDimensions();
+        }
+
+        this.setPos(mob.getX(), mob.getY(), mob.getZ());
+        this.setBoundingBox(mob.getBoundingBox());
+        this.setOnGround(mob.onGround());
+        this.wasTouchingWater = mob.isInWater();
+        this.copiedMaxUpStep = mob.maxUpStep();
+        this.copiedMaxFallDistance = mob.getMaxFallDistance();
+        for (PathType type : PATH_TYPES) {
+            this.setPathfindingMalus(type, mob.getPathfindingMalus(type));
+        }
+        return this;
+    }
+
+    @Override
+    public float maxUpStep() {
+        return this.copiedMaxUpStep;
+    }
+
+    @Override
+    public int getMaxFallDistance() {
+        return this.copiedMaxFallDistance;
+    }
+}
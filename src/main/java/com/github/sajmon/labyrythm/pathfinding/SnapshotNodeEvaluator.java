@@ -0,0 +1,41 @@
+package com.github.sajmon.labyrythm.pathfinding;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.CollisionGetter;
+import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.pathfinder.PathType;
+import net.minecraft.world.level.pathfinder.PathfindingContext;
+import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
+
+// Vanilla walking rules for pathfinding workers. The search is handed the request's
+// PathfindingMob instead of the live mob, and reads block path types straight from the
+// snapshot instead of the level's shared PathTypeCache, which belongs to the server thread.
+public class SnapshotNodeEvaluator extends WalkNodeEvaluator {
+    public SnapshotNodeEvaluator(PathRequest request) {
+        this.setCanPassDoors(request.canPassDoors());
+        this.setCanOpenDoors(request.canOpenDoors());
+        this.setCanFloat(request.canFloat());
+        this.setCanWalkOverFences(request.canWalkOverFences());
+    }
+
+    @Override
+    public void prepare(PathNavigationRegion level, Mob mob) {
+        super.prepare(level, mob);
+        this.currentContext = new UncachedPathfindingContext(level, mob);
+    }
+
+    private static class UncachedPathfindingContext extends PathfindingContext {
+        private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+        public UncachedPathfindingContext(CollisionGetter level, Mob mob) {
+            super(level, mob);
+        }
+
+        // getPathTypeFromState is protected; this class is nested in a WalkNodeEvaluator subclass
+        @Override
+        public PathType getPathTypeFromState(int x, int y, int z) {
+            return WalkNodeEvaluator.getPathTypeFromState(this.level(), this.mutablePos.set(x, y, z));
+        }
+    }
+}
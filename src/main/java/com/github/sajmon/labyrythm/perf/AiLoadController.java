@@ -0,0 +1,87 @@
+package com.github.sajmon.labyrythm.perf;
+
+import com.github.sajmon.labyrythm.Config;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.Entity;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// Picks an AiLoadTier from the server's average tick time once per server tick.
+// Tiers step up as soon as a threshold is crossed, and step down only after the
+// average has stayed HYSTERESIS_NANOS below the current tier for RECOVERY_TICKS.
+public class AiLoadController {
+    private static final long HYSTERESIS_NANOS = 5_000_000L;
+    private static final int RECOVERY_TICKS = 100;
+
+    private static final AiLoadTier[] TIERS = AiLoadTier.values();
+    private static final LongAdder transitions = new LongAdder();
+
+    private static volatile AiLoadTier tier = AiLoadTier.FULL;
+    private static int recoveryTicks = 0;
+
+    public static void update(MinecraftServer server) {
+        AiLoadTier current = tier;
+        if (!Config.adaptiveMinotaurAi) {
+            setTier(AiLoadTier.FULL);
+            AiLoadTier.FULL.increment();
+            return;
+        }
+
+        long averageNanos = server.getAverageTickTimeNanos();
+        AiLoadTier target = AiLoadTier.FULL;
+        for (AiLoadTier candidate : TIERS) {
+            if (averageNanos >= candidate.getEnterNanos()) {
+                target = candidate;
+            }
+        }
+
+        if (target.ordinal() > current.ordinal()) {
+            recoveryTicks = 0;
+            setTier(target);
+        } else if (target.ordinal() < current.ordinal() && averageNanos < current.getEnterNanos() - HYSTERESIS_NANOS) {
+            if (++recoveryTicks >= RECOVERY_TICKS) {
+                recoveryTicks = 0;
+                // Recover one tier at a time so a single good tick average cannot jump back to full rate
+                setTier(TIERS[current.ordinal() - 1]);
+            }
+        } else {
+            recoveryTicks = 0;
+        }
+
+        tier.increment();
+    }
+
+    private static void setTier(AiLoadTier next) {
+        if (next != tier) {
+            tier = next;
+            transitions.increment();
+        }
+    }
+
+    public static AiLoadTier getTier() {
+        return tier;
+    }
+
+    // Staggered by entity id so throttled entities do not all run on the same tick
+    public static boolean shouldRun(Entity entity) {
+        int stride = tier.getStride();
+        return stride <= 1 || (entity.tickCount + entity.getId()) % stride == 0;
+    }
+
+    public static void reset() {
+        transitions.reset();
+        for (AiLoadTier loadTier : TIERS) {
+            loadTier.reset();
+        }
+    }
+
+    public static String report() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "ai_tier: current=%s transitions=%d", tier.getId(), transitions.sum()));
+        for (AiLoadTier loadTier : TIERS) {
+            builder.append(String.format(Locale.ROOT, " %s=%dt", loadTier.getId(), loadTier.getTicks()));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.sajmon.labyrythm.perf;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Degradation tiers for minotaur AI. The stride is how many ticks apart non-combat
+// AI work runs; a tier is entered once the average tick time exceeds its threshold.
+public enum AiLoadTier {
+    FULL("full", 1, 0L),
+    REDUCED("reduced", 2, 40_000_000L),
+    LOW("low", 4, 47_000_000L),
+    MINIMAL("minimal", 8, 55_000_000L);
+
+    private final String id;
+    private final int stride;
+    private final long enterNanos;
+    private final LongAdder ticks = new LongAdder();
+
+    AiLoadTier(String id, int stride, long enterNanos) {
+        this.id = id;
+        this.stride = stride;
+        this.enterNanos = enterNanos;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    public long getEnterNanos() {
+        return enterNanos;
+    }
+
+    public long getTicks() {
+        return ticks.sum();
+    }
+
+    void increment() {
+        ticks.increment();
+    }
+
+    void reset() {
+        ticks.reset();
+    }
+}
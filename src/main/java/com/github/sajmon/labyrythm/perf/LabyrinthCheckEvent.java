@@ -0,0 +1,18 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labyrythm.LabyrinthCheck")
+@Label("Player Labyrinth Check")
+@Category({"Labyrythm", "Effects"})
+@StackTrace(false)
+public class LabyrinthCheckEvent extends jdk.jfr.Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Inside Labyrinth")
+    public boolean inside;
+}
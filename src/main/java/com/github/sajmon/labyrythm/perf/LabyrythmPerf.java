@@ -0,0 +1,119 @@
+package com.github.sajmon.labyrythm.perf;
+
+import com.github.sajmon.labyrythm.Config;
+import com.github.sajmon.labyrythm.entity.MinotaurActivityMachine;
+import com.mojang.logging.LogUtils;
+import jdk.jfr.FlightRecorder;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Lightweight instrumentation for the mod's hot paths. Every call is counted; only one in
+// Config.perfSampleRate calls reads the clock, so the cost on the tick path stays negligible.
+//
+//     long perfStart = LabyrythmPerf.begin(PerfSection.MINOTAUR_TICK);
+//     ...
+//     LabyrythmPerf.end(PerfSection.MINOTAUR_TICK, perfStart);
+public class LabyrythmPerf {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static boolean jfrRegistered = false;
+
+    public static long begin(PerfSection section) {
+        section.increment();
+        int sampleRate = Config.perfSampleRate;
+        if (sampleRate <= 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            return System.nanoTime();
+        }
+        return 0L;
+    }
+
+    public static void end(PerfSection section, long startNanos) {
+        if (startNanos != 0L) {
+            section.getHistogram().record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void count(PerfSection section) {
+        section.increment();
+    }
+
+    public static void reset() {
+        for (PerfSection section : PerfSection.values()) {
+            section.reset();
+        }
+        AiLoadController.reset();
+        MinotaurActivityMachine.resetCounters();
+    }
+
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (PerfSection section : PerfSection.values()) {
+            if (!section.isTimed()) {
+                lines.add(String.format(Locale.ROOT, "%s: count=%d", section.getId(), section.getCalls()));
+                continue;
+            }
+
+            NanoHistogram histogram = section.getHistogram();
+            lines.add(String.format(Locale.ROOT, "%s: calls=%d sampled=%d mean=%s p50<=%s p99<=%s",
+                    section.getId(),
+                    section.getCalls(),
+                    histogram.getSamples(),
+                    formatNanos(histogram.getMeanNanos()),
+                    formatNanos(histogram.getPercentileNanos(0.5)),
+                    formatNanos(histogram.getPercentileNanos(0.99))));
+        }
+        lines.add(AiLoadController.report());
+        lines.add(MinotaurActivityMachine.report());
+        return lines;
+    }
+
+    public static void logReport() {
+        LOGGER.info("Labyrythm perf counters:");
+        for (String line : report()) {
+            LOGGER.info("  {}", line);
+        }
+    }
+
+    public static void registerJfrEvents() {
+        if (jfrRegistered) {
+            return;
+        }
+        try {
+            FlightRecorder.addPeriodicEvent(PerfSnapshotEvent.class, LabyrythmPerf::emitSnapshots);
+            jfrRegistered = true;
+        } catch (Exception | LinkageError e) {
+            LOGGER.warn("Could not register Labyrythm JFR events", e);
+        }
+    }
+
+    private static void emitSnapshots() {
+        for (PerfSection section : PerfSection.values()) {
+            PerfSnapshotEvent event = new PerfSnapshotEvent();
+            if (!event.isEnabled()) {
+                return;
+            }
+
+            NanoHistogram histogram = section.getHistogram();
+            event.section = section.getId();
+            event.calls = section.getCalls();
+            event.samples = histogram.getSamples();
+            event.mean = histogram.getMeanNanos();
+            event.p50 = histogram.getPercentileNanos(0.5);
+            event.p99 = histogram.getPercentileNanos(0.99);
+            event.commit();
+        }
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000L) {
+            return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+        }
+        if (nanos >= 1_000L) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+        }
+        return nanos + "ns";
+    }
+}
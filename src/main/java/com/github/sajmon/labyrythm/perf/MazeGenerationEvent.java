@@ -0,0 +1,21 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labyrythm.MazeGeneration")
+@Label("Labyrinth Maze Generation")
+@Category({"Labyrythm", "Worldgen"})
+@StackTrace(false)
+public class MazeGenerationEvent extends jdk.jfr.Event {
+    @Label("Maze Size")
+    public int mazeSize;
+
+    @Label("Level Count")
+    public int levelCount;
+
+    @Label("Piece Count")
+    public int pieceCount;
+}
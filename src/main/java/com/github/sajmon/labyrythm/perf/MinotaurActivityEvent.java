@@ -0,0 +1,24 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labyrythm.MinotaurActivityUpdate")
+@Label("Minotaur Activity Update")
+@Category({"Labyrythm", "Minotaur"})
+@StackTrace(false)
+public class MinotaurActivityEvent extends jdk.jfr.Event {
+    @Label("Entity Id")
+    public int entityId;
+
+    @Label("Previous Activity")
+    public String previousActivity;
+
+    @Label("Activity")
+    public String activity;
+
+    @Label("Target Distance")
+    public double targetDistance;
+}
@@ -0,0 +1,21 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labyrythm.MinotaurBrain")
+@Label("Minotaur Brain Step")
+@Category({"Labyrythm", "Minotaur"})
+@StackTrace(false)
+public class MinotaurBrainEvent extends jdk.jfr.Event {
+    @Label("Entity Id")
+    public int entityId;
+
+    @Label("Activity")
+    public String activity;
+
+    @Label("Target Distance")
+    public double targetDistance;
+}
@@ -0,0 +1,24 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labyrythm.MinotaurTick")
+@Label("Minotaur Tick")
+@Category({"Labyrythm", "Minotaur"})
+@StackTrace(false)
+public class MinotaurTickEvent extends jdk.jfr.Event {
+    @Label("Entity Id")
+    public int entityId;
+
+    @Label("Client Side")
+    public boolean clientSide;
+
+    @Label("Dashing")
+    public boolean dashing;
+
+    @Label("Target Distance")
+    public double targetDistance;
+}
@@ -0,0 +1,67 @@
+package com.github.sajmon.labyrythm.perf;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Power-of-two bucketed latency histogram. Bucket i holds samples in [2^(i-1), 2^i) ns,
+// which is coarse but lock-free and cheap enough to sit on worldgen and tick paths.
+public class NanoHistogram {
+    private static final int BUCKETS = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public NanoHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int bucket = nanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+        buckets[bucket].increment();
+        samples.increment();
+        totalNanos.add(nanos);
+    }
+
+    public long getSamples() {
+        return samples.sum();
+    }
+
+    public long getMeanNanos() {
+        long count = samples.sum();
+        return count == 0 ? 0 : totalNanos.sum() / count;
+    }
+
+    // Upper bound of the bucket containing the given percentile (0-1).
+    public long getPercentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        samples.reset();
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.sajmon.labyrythm.perf;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public enum PerfSection {
+    MAZE_GENERATION("maze_generation", true),
+    LABYRINTH_MEMBERSHIP("labyrinth_membership", true),
+    MINOTAUR_TICK("minotaur_tick", true),
+    VIBRATION_TICK("vibration_tick", true),
+    VIBRATION_RECEIVED("vibration_received", false),
+    PATHFINDING("pathfinding", true),
+    PATH_REQUEST_SKIPPED("path_request_skipped", false),
+    PATH_SNAPSHOT("path_snapshot", true),
+    PATH_RESULT_STALE("path_result_stale", false),
+    LABYRINTH_ROUTE("labyrinth_route", true),
+    FLOW_FIELD_REBUILD("flow_field_rebuild", true),
+    FLOW_FIELD_SHIFT("flow_field_shift", true),
+    PATH_TARGET_CLAMPED("path_target_clamped", false),
+    NAVIGATION_BORDER_STOP("navigation_border_stop", false),
+    DIRECTOR_TICK("director_tick", true),
+    ACOUSTIC_ROUTE("acoustic_route", true),
+    VIBRATION_ROUTED("vibration_routed", false),
+    DASH_CORRECTION("dash_correction", false);
+
+    private final String id;
+    private final boolean timed;
+    private final LongAdder calls = new LongAdder();
+    private final NanoHistogram histogram = new NanoHistogram();
+
+    PerfSection(String id, boolean timed) {
+        this.id = id;
+        this.timed = timed;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isTimed() {
+        return timed;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public NanoHistogram getHistogram() {
+        return histogram;
+    }
+
+    void increment() {
+        calls.increment();
+    }
+
+    void reset() {
+        calls.reset();
+        histogram.reset();
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("labyrythm.PerfSnapshot")
+@Label("Labyrythm Perf Snapshot")
+@Description("Cumulative call counts and sampled latencies of a Labyrythm hot path")
+@Category({"Labyrythm", "Performance"})
+@Period("10 s")
+@StackTrace(false)
+public class PerfSnapshotEvent extends jdk.jfr.Event {
+    @Label("Section")
+    public String section;
+
+    @Label("Calls")
+    public long calls;
+
+    @Label("Samples")
+    public long samples;
+
+    @Label("Mean")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mean;
+
+    @Label("P50")
+    @Timespan(Timespan.NANOSECONDS)
+    public long p50;
+
+    @Label("P99")
+    @Timespan(Timespan.NANOSECONDS)
+    public long p99;
+}
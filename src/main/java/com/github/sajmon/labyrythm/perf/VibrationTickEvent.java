@@ -0,0 +1,18 @@
+package com.github.sajmon.labyrythm.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labyrythm.VibrationTick")
+@Label("Minotaur Vibration Tick")
+@Category({"Labyrythm", "Minotaur"})
+@StackTrace(false)
+public class VibrationTickEvent extends jdk.jfr.Event {
+    @Label("Entity Id")
+    public int entityId;
+
+    @Label("Vibration Pending")
+    public boolean pending;
+}
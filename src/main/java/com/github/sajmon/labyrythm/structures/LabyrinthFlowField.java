@@ -0,0 +1,132 @@
+package com.github.sajmon.labyrythm.structures;
+
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import net.minecraft.core.Direction;
+
+import java.util.Arrays;
+
+// Distance from every cell of one labyrinth to a single target cell, plus the first step
+// towards it. One field is shared by every minotaur chasing the same target.
+public class LabyrinthFlowField {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final LabyrinthLayout layout;
+    private final int[] distances;
+    private final int[] next;
+    private int targetCell = -1;
+    private long lastUsed;
+
+    LabyrinthFlowField(LabyrinthLayout layout) {
+        this.layout = layout;
+        this.distances = new int[layout.getCellCount()];
+        this.next = new int[layout.getCellCount()];
+    }
+
+    public int getTargetCell() {
+        return this.targetCell;
+    }
+
+    // Next cell from `cell` towards the target, the target itself once adjacent, or -1 when unreachable
+    public int getNextCell(int cell) {
+        return cell >= 0 && cell < this.next.length && cell != this.targetCell ? this.next[cell] : -1;
+    }
+
+    public int getDistance(int cell) {
+        return cell >= 0 && cell < this.distances.length ? this.distances[cell] : -1;
+    }
+
+    long getLastUsed() {
+        return this.lastUsed;
+    }
+
+    void touch(long gameTime) {
+        this.lastUsed = gameTime;
+    }
+
+    void moveTarget(int cell) {
+        if (cell == this.targetCell) {
+            return;
+        }
+
+        if (this.targetCell >= 0 && this.layout.isForest() && isLinked(this.targetCell, cell)) {
+            long perfStart = LabyrythmPerf.begin(PerfSection.FLOW_FIELD_SHIFT);
+            shift(cell);
+            LabyrythmPerf.end(PerfSection.FLOW_FIELD_SHIFT, perfStart);
+        } else {
+            long perfStart = LabyrythmPerf.begin(PerfSection.FLOW_FIELD_REBUILD);
+            rebuild(cell);
+            LabyrythmPerf.end(PerfSection.FLOW_FIELD_REBUILD, perfStart);
+        }
+    }
+
+    private boolean isLinked(int from, int to) {
+        for (Direction dir : DIRECTIONS) {
+            if (this.layout.getLinkedCell(from, dir) == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuild(int cell) {
+        Arrays.fill(this.distances, -1);
+        Arrays.fill(this.next, -1);
+        this.targetCell = cell;
+        if (!this.layout.isOccupied(cell)) {
+            return;
+        }
+
+        int[] queue = new int[this.layout.getOccupiedCount()];
+        int head = 0;
+        int tail = 0;
+        this.distances[cell] = 0;
+        this.next[cell] = cell;
+        queue[tail++] = cell;
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (Direction dir : DIRECTIONS) {
+                int neighbor = this.layout.getLinkedCell(current, dir);
+                if (neighbor >= 0 && this.distances[neighbor] < 0) {
+                    this.distances[neighbor] = this.distances[current] + 1;
+                    this.next[neighbor] = current;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    // The target stepped to an adjacent cell of a tree-shaped maze. Cells on the new cell's
+    // side of the link get one step closer, everything else one step further, and only the
+    // two endpoints change their next step.
+    private void shift(int cell) {
+        int previous = this.targetCell;
+        boolean[] closer = new boolean[this.distances.length];
+        int[] queue = new int[this.layout.getOccupiedCount()];
+        int head = 0;
+        int tail = 0;
+        closer[cell] = true;
+        queue[tail++] = cell;
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (Direction dir : DIRECTIONS) {
+                int neighbor = this.layout.getLinkedCell(current, dir);
+                if (neighbor >= 0 && neighbor != previous && !closer[neighbor]) {
+                    closer[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        for (int i = 0; i < this.distances.length; i++) {
+            if (this.distances[i] >= 0) {
+                this.distances[i] += closer[i] ? -1 : 1;
+            }
+        }
+        this.next[cell] = cell;
+        this.next[previous] = cell;
+        this.targetCell = cell;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.sajmon.labyrythm.structures;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+
+// Chase flow fields per labyrinth, keyed by the target's entity id. The fields live on their
+// LabyrinthLayout, so they go away with it. Server thread only.
+public class LabyrinthFlowFields {
+    // A field nobody read for this long belongs to a target that escaped, died or logged out
+    private static final long EXPIRY_TICKS = 200L;
+
+    public static LabyrinthFlowField get(LabyrinthLayout layout, int targetId, int targetCell, long gameTime) {
+        Int2ObjectMap<LabyrinthFlowField> fields = layout.getFlowFields();
+        fields.values().removeIf(existing -> gameTime - existing.getLastUsed() > EXPIRY_TICKS);
+
+        LabyrinthFlowField field = fields.get(targetId);
+        if (field == null) {
+            field = new LabyrinthFlowField(layout);
+            fields.put(targetId, field);
+        }
+
+        field.touch(gameTime);
+        field.moveTarget(targetCell);
+        return field;
+    }
+}
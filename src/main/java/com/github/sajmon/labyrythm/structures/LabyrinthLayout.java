@@ -0,0 +1,319 @@
+package com.github.sajmon.labyrythm.structures;
+
+import com.github.sajmon.labyrythm.structures.pieces.MinotaursLabyrinthPieces;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+// Occupancy raster of a single labyrinth: one bit per 7x7x7 cell, indexed by
+// (layer, z, x) relative to the lowest north-west corner of the maze. Each cell also keeps
+// the Direction bits of its open sides, which makes the raster a graph of the maze.
+public class LabyrinthLayout {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    public static final int CELL_SIZE = 7;
+
+    public static final LabyrinthLayout EMPTY = new LabyrinthLayout(0, 0, 0, 0, 0, 0);
+
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    private final int sizeX;
+    private final int sizeZ;
+    private final int layers;
+    private final long[] occupancy;
+    private final byte[] connections;
+    private int occupiedCount;
+    // Occupied cells in index order with their floor positions, for patrol sampling
+    private int[] occupiedCells = new int[0];
+    private long[] occupiedFloors = new long[0];
+    // 0 = not computed yet, 1 = every component of the cell graph is a tree, -1 = it has loops
+    private byte forest = 0;
+    private int[] components;
+    // Chase flow fields keyed by target entity id, managed by LabyrinthFlowFields. Kept here so
+    // they are dropped together with the layout.
+    private final Int2ObjectMap<LabyrinthFlowField> flowFields = new Int2ObjectOpenHashMap<>();
+
+    private LabyrinthLayout(int originX, int originY, int originZ, int sizeX, int sizeZ, int layers) {
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.layers = layers;
+        this.occupancy = new long[(sizeX * sizeZ * layers + 63) >>> 6];
+        this.connections = new byte[sizeX * sizeZ * layers];
+    }
+
+    public static LabyrinthLayout fromStart(StructureStart start) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        boolean found = false;
+
+        for (StructurePiece piece : start.getPieces()) {
+            if (piece instanceof MinotaursLabyrinthPieces.LabyrinthPiece) {
+                BoundingBox box = piece.getBoundingBox();
+                minX = Math.min(minX, box.minX());
+                minY = Math.min(minY, box.minY());
+                minZ = Math.min(minZ, box.minZ());
+                maxX = Math.max(maxX, box.minX());
+                maxY = Math.max(maxY, box.minY());
+                maxZ = Math.max(maxZ, box.minZ());
+                found = true;
+            }
+        }
+
+        if (!found) {
+            return EMPTY;
+        }
+
+        LabyrinthLayout layout = new LabyrinthLayout(minX, minY, minZ,
+                (maxX - minX) / CELL_SIZE + 1,
+                (maxZ - minZ) / CELL_SIZE + 1,
+                (maxY - minY) / CELL_SIZE + 1);
+
+        for (StructurePiece piece : start.getPieces()) {
+            if (piece instanceof MinotaursLabyrinthPieces.LabyrinthPiece labyrinthPiece) {
+                BoundingBox box = piece.getBoundingBox();
+                int index = layout.indexOf(box.minX(), box.minY(), box.minZ());
+                if (index >= 0 && !layout.isOccupied(index)) {
+                    layout.occupancy[index >>> 6] |= 1L << index;
+                    layout.connections[index] = (byte) labyrinthPiece.getConnectionMask();
+                    layout.occupiedCount++;
+                }
+            }
+        }
+
+        layout.occupiedCells = new int[layout.occupiedCount];
+        layout.occupiedFloors = new long[layout.occupiedCount];
+        int next = 0;
+        for (int index = 0; index < layout.getCellCount(); index++) {
+            if (layout.isOccupied(index)) {
+                layout.occupiedCells[next] = index;
+                layout.occupiedFloors[next] = layout.getCellFloor(index).asLong();
+                next++;
+            }
+        }
+
+        return layout;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean contains(int x, int y, int z) {
+        int index = indexOf(x, y, z);
+        return index >= 0 && isOccupied(index);
+    }
+
+    // Returns the cell index for a block position, or -1 when it lies outside the raster.
+    public int indexOf(int x, int y, int z) {
+        int cellX = Math.floorDiv(x - originX, CELL_SIZE);
+        int cellY = Math.floorDiv(y - originY, CELL_SIZE);
+        int cellZ = Math.floorDiv(z - originZ, CELL_SIZE);
+
+        if (cellX < 0 || cellX >= sizeX || cellY < 0 || cellY >= layers || cellZ < 0 || cellZ >= sizeZ) {
+            return -1;
+        }
+
+        return (cellY * sizeZ + cellZ) * sizeX + cellX;
+    }
+
+    public int indexOf(BlockPos pos) {
+        return indexOf(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean isOccupied(int index) {
+        return (occupancy[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Index of the cell across the given side, or -1 when the two cells are not connected
+    // from both ends.
+    public int getLinkedCell(int index, Direction dir) {
+        if ((connections[index] & (1 << dir.ordinal())) == 0) {
+            return -1;
+        }
+
+        int cellX = index % sizeX + dir.getStepX();
+        int cellZ = index / sizeX % sizeZ + dir.getStepZ();
+        int cellY = index / (sizeX * sizeZ) + dir.getStepY();
+        if (cellX < 0 || cellX >= sizeX || cellY < 0 || cellY >= layers || cellZ < 0 || cellZ >= sizeZ) {
+            return -1;
+        }
+
+        int neighbor = (cellY * sizeZ + cellZ) * sizeX + cellX;
+        if (!isOccupied(neighbor) || (connections[neighbor] & (1 << dir.getOpposite().ordinal())) == 0) {
+            return -1;
+        }
+        return neighbor;
+    }
+
+    // First cell after `from` on a shortest route to `to`, or -1 when the maze does not connect them.
+    // The search runs backwards from `to`, so the parent of `from` is the step to take.
+    public int getNextCellTowards(int from, int to) {
+        if (from == to || !isOccupied(from) || !isOccupied(to)) {
+            return -1;
+        }
+
+        int[] parents = new int[getCellCount()];
+        Arrays.fill(parents, -1);
+        int[] queue = new int[occupiedCount];
+        int head = 0;
+        int tail = 0;
+        parents[to] = to;
+        queue[tail++] = to;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            for (Direction dir : DIRECTIONS) {
+                int neighbor = getLinkedCell(cell, dir);
+                if (neighbor >= 0 && parents[neighbor] < 0) {
+                    parents[neighbor] = cell;
+                    if (neighbor == from) {
+                        return cell;
+                    }
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Corridor distance in cells from `from` to every cell, -1 where the maze does not connect them
+    public int[] getCellDistances(int from) {
+        int[] distances = new int[getCellCount()];
+        Arrays.fill(distances, -1);
+        if (from < 0 || !isOccupied(from)) {
+            return distances;
+        }
+
+        int[] queue = new int[occupiedCount];
+        int head = 0;
+        int tail = 0;
+        distances[from] = 0;
+        queue[tail++] = from;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            for (Direction dir : DIRECTIONS) {
+                int neighbor = getLinkedCell(cell, dir);
+                if (neighbor >= 0 && distances[neighbor] < 0) {
+                    distances[neighbor] = distances[cell] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return distances;
+    }
+
+    // Carved mazes are spanning trees joined by single hatch links, but entrances and the
+    // boss room open on all sides, so check rather than assume.
+    public boolean isForest() {
+        analyzeGraph();
+        return forest > 0;
+    }
+
+    // Floor of a random cell that can be walked to from `from`, or null when `from` is not a cell
+    @Nullable
+    public BlockPos getRandomReachableFloor(int from, RandomSource random) {
+        if (from < 0 || !isOccupied(from)) {
+            return null;
+        }
+        analyzeGraph();
+
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int pick = random.nextInt(occupiedCount);
+            int cell = occupiedCells[pick];
+            if (cell != from && components[cell] == components[from]) {
+                return BlockPos.of(occupiedFloors[pick]);
+            }
+        }
+        return null;
+    }
+
+    // Labels connected components of the cell graph and checks whether each one is a tree
+    private void analyzeGraph() {
+        if (forest != 0) {
+            return;
+        }
+
+        int edges = 0;
+        int componentCount = 0;
+        components = new int[getCellCount()];
+        Arrays.fill(components, -1);
+        int[] queue = new int[occupiedCount];
+
+        for (int start : occupiedCells) {
+            if (components[start] >= 0) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            components[start] = componentCount;
+            queue[tail++] = start;
+
+            while (head < tail) {
+                int cell = queue[head++];
+                for (Direction dir : DIRECTIONS) {
+                    int neighbor = getLinkedCell(cell, dir);
+                    if (neighbor < 0) {
+                        continue;
+                    }
+                    edges++;
+                    if (components[neighbor] < 0) {
+                        components[neighbor] = componentCount;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            componentCount++;
+        }
+        // Every link was seen from both ends
+        forest = (byte) (edges / 2 == occupiedCount - componentCount ? 1 : -1);
+    }
+
+    // Standing position in the middle of a cell, one block above its floor
+    public BlockPos getCellFloor(int index) {
+        int cellX = index % sizeX;
+        int cellZ = index / sizeX % sizeZ;
+        int cellY = index / (sizeX * sizeZ);
+        return new BlockPos(originX + cellX * CELL_SIZE + 3, originY + cellY * CELL_SIZE + 1, originZ + cellZ * CELL_SIZE + 3);
+    }
+
+    public int getCellCount() {
+        return sizeX * sizeZ * layers;
+    }
+
+    public int getOccupiedCount() {
+        return occupiedCount;
+    }
+
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    public int getSizeZ() {
+        return sizeZ;
+    }
+
+    public int getLayers() {
+        return layers;
+    }
+
+    Int2ObjectMap<LabyrinthFlowField> getFlowFields() {
+        return flowFields;
+    }
+
+    public boolean isEmpty() {
+        return occupiedCount == 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.sajmon.labyrythm.structures;
+
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.PerfSection;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// Caches one LabyrinthLayout per loaded structure start. Starts are dropped together
+// with their chunks, so the weak keys keep this bounded to what the server holds.
+public class LabyrinthLayouts {
+    private static final Map<StructureStart, LabyrinthLayout> LAYOUTS = new WeakHashMap<>();
+
+    public static LabyrinthLayout get(StructureStart start) {
+        if (!start.isValid()) {
+            return LabyrinthLayout.EMPTY;
+        }
+        return LAYOUTS.computeIfAbsent(start, LabyrinthLayout::fromStart);
+    }
+
+    @Nullable
+    public static Structure getStructure(ServerLevel level) {
+        return level.registryAccess().registryOrThrow(Registries.STRUCTURE).get(ModStructures.MINOTAURS_LABYRINTH_KEY);
+    }
+
+    public static StructureStart getStartAt(ServerLevel level, BlockPos pos) {
+        Structure structure = getStructure(level);
+        if (structure == null) {
+            return StructureStart.INVALID_START;
+        }
+        return level.structureManager().getStructureAt(pos, structure);
+    }
+
+    // Labyrinths are identified by the packed position of their start chunk. Returns the invalid
+    // start while that chunk is not loaded.
+    public static StructureStart getStartById(ServerLevel level, long labyrinthId) {
+        Structure structure = getStructure(level);
+        if (structure == null) {
+            return StructureStart.INVALID_START;
+        }
+        LevelChunk chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(labyrinthId), ChunkPos.getZ(labyrinthId));
+        StructureStart start = chunk != null ? chunk.getStartForStructure(structure) : null;
+        return start != null ? start : StructureStart.INVALID_START;
+    }
+
+    public static boolean isInsideCorridor(ServerLevel level, BlockPos pos) {
+        long perfStart = LabyrythmPerf.begin(PerfSection.LABYRINTH_MEMBERSHIP);
+        StructureStart start = getStartAt(level, pos);
+        boolean inside = start.isValid() && get(start).contains(pos);
+        LabyrythmPerf.end(PerfSection.LABYRINTH_MEMBERSHIP, perfStart);
+        return inside;
+    }
+}
@@ -3,12 +3,18 @@ package com.github.sajmon.labyrythm.structures.pieces;
 import com.github.sajmon.labyrythm.Labyrythm;
 import com.github.sajmon.labyrythm.entity.MinotaurEntity;
 import com.github.sajmon.labyrythm.entity.ModEntityTypes;
+import com.github.sajmon.labyrythm.perf.LabyrythmPerf;
+import com.github.sajmon.labyrythm.perf.MazeGenerationEvent;
+import com.github.sajmon.labyrythm.perf.PerfSection;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.Mirror;
@@ -58,10 +64,14 @@ public class MinotaursLabyrinthPieces {
 
     public static void addPieces(StructurePiecesBuilder builder, BlockPos centerPos, Rotation initialRotation,
                                  RandomSource random, int configSize, StructureTemplateManager templateManager) {
-        int levels = 2 + random.nextInt(3);
-        
-        int mazeSize = Math.max(5, (int)Math.sqrt(configSize));
-        if (mazeSize % 2 == 0) mazeSize++;
+        long perfStart = LabyrythmPerf.begin(PerfSection.MAZE_GENERATION);
+        MazeGenerationEvent jfrEvent = new MazeGenerationEvent();
+        jfrEvent.begin();
+        int pieceCount = 0;
+        // The structure start lives in the chunk holding the center
+        long labyrinthId = ChunkPos.asLong(SectionPos.blockToSectionCoord(centerPos.getX()), SectionPos.blockToSectionCoord(centerPos.getZ()));
+
+        MazePlan plan = planMaze(initialRotation, random, configSize);
         
         // Add the well at the top level, above the highest entrance
         BlockPos wellPos = new BlockPos(
@@ -70,20 +80,77 @@ public class MinotaursLabyrinthPieces {
             centerPos.getZ()
         );
         
-        // Add the well with a random rotation
-        Rotation wellRotation = Rotation.values()[random.nextInt(Rotation.values().length)];
         LabyrinthPiece wellPiece = new LabyrinthPiece(
             templateManager,
             WELL,
             wellPos,
-            wellRotation,
+            plan.wellRotation,
             0
         );
+        wellPiece.setLabyrinthId(labyrinthId);
         builder.addPiece(wellPiece);
+        pieceCount++;
         
-        for (int level = 0; level < levels; level++) {
+        int centerX = plan.mazeSize / 2;
+        int centerZ = plan.mazeSize / 2;
+        
+        for (int level = 0; level < plan.levels; level++) {
             int yOffset = -level * 7;
             
+            BlockPos levelCenterPos = new BlockPos(
+                centerPos.getX(),
+                centerPos.getY() + yOffset,
+                centerPos.getZ()
+            );
+            
+            for (Map.Entry<GridPos, PieceInfo> entry : plan.levelPieces.get(level).entrySet()) {
+                GridPos gridPos = entry.getKey();
+                PieceInfo pieceInfo = entry.getValue();
+                
+                BlockPos piecePos = new BlockPos(
+                    levelCenterPos.getX() + ((gridPos.x - centerX) * PIECE_SIZE),
+                    levelCenterPos.getY(),
+                    levelCenterPos.getZ() + ((gridPos.z - centerZ) * PIECE_SIZE)
+                );
+                
+                LabyrinthPiece piece = new LabyrinthPiece(
+                    templateManager,
+                    pieceInfo.pieceType,
+                    piecePos,
+                    pieceInfo.rotation,
+                    0
+                );
+                piece.setLabyrinthId(labyrinthId);
+                
+                builder.addPiece(piece);
+                pieceCount++;
+            }
+        }
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.mazeSize = plan.mazeSize;
+            jfrEvent.levelCount = plan.levels;
+            jfrEvent.pieceCount = pieceCount;
+            jfrEvent.commit();
+        }
+        LabyrythmPerf.end(PerfSection.MAZE_GENERATION, perfStart);
+    }
+
+    // Carves every level of the maze without touching templates or the world, so it can
+    // also be driven directly by benchmarks.
+    public static MazePlan planMaze(Rotation initialRotation, RandomSource random, int configSize) {
+        int levels = 2 + random.nextInt(3);
+        
+        int mazeSize = Math.max(5, (int)Math.sqrt(configSize));
+        if (mazeSize % 2 == 0) mazeSize++;
+        
+        // Add the well with a random rotation
+        Rotation wellRotation = Rotation.values()[random.nextInt(Rotation.values().length)];
+        
+        Map<Integer, GridPos> levelConnections = new HashMap<>();
+        List<Map<GridPos, PieceInfo>> levelPieces = new ArrayList<>(levels);
+        
+        for (int level = 0; level < levels; level++) {
             MazeCell[][] mazeGrid = new MazeCell[mazeSize][mazeSize];
             for (int z = 0; z < mazeSize; z++) {
                 for (int x = 0; x < mazeSize; x++) {
@@ -94,12 +161,6 @@ public class MinotaursLabyrinthPieces {
             int centerX = mazeSize / 2;
             int centerZ = mazeSize / 2;
             
-            BlockPos levelCenterPos = new BlockPos(
-                centerPos.getX(),
-                centerPos.getY() + yOffset,
-                centerPos.getZ()
-            );
-            
             Set<GridPos> visited = new HashSet<>();
             Map<GridPos, PieceInfo> pieceInfoMap = new HashMap<>();
             
@@ -212,31 +273,12 @@ public class MinotaursLabyrinthPieces {
                 }
             }
             
-            for (Map.Entry<GridPos, PieceInfo> entry : pieceInfoMap.entrySet()) {
-                GridPos gridPos = entry.getKey();
-                PieceInfo pieceInfo = entry.getValue();
-                
-                BlockPos piecePos = new BlockPos(
-                    levelCenterPos.getX() + ((gridPos.x - centerX) * PIECE_SIZE),
-                    levelCenterPos.getY(),
-                    levelCenterPos.getZ() + ((gridPos.z - centerZ) * PIECE_SIZE)
-                );
-                
-                LabyrinthPiece piece = new LabyrinthPiece(
-                    templateManager,
-                    pieceInfo.pieceType,
-                    piecePos,
-                    pieceInfo.rotation,
-                    0
-                );
-                
-                builder.addPiece(piece);
-            }
+            levelPieces.add(pieceInfoMap);
         }
+        
+        return new MazePlan(levels, mazeSize, wellRotation, levelPieces);
     }
 
-    private static final Map<Integer, GridPos> levelConnections = new HashMap<>();
-
     private static boolean isValidPosition(GridPos pos, int mazeSize) {
         return pos.x >= 0 && pos.x < mazeSize && pos.z >= 0 && pos.z < mazeSize;
     }
@@ -409,7 +451,38 @@ public class MinotaursLabyrinthPieces {
         }
     }
 
+    public static class MazePlan {
+        private final int levels;
+        private final int mazeSize;
+        private final Rotation wellRotation;
+        private final List<Map<GridPos, PieceInfo>> levelPieces;
+        
+        MazePlan(int levels, int mazeSize, Rotation wellRotation, List<Map<GridPos, PieceInfo>> levelPieces) {
+            this.levels = levels;
+            this.mazeSize = mazeSize;
+            this.wellRotation = wellRotation;
+            this.levelPieces = levelPieces;
+        }
+        
+        public int getLevels() {
+            return levels;
+        }
+        
+        public int getMazeSize() {
+            return mazeSize;
+        }
+        
+        public int getPieceCount() {
+            int count = 1;
+            for (Map<GridPos, PieceInfo> pieces : levelPieces) {
+                count += pieces.size();
+            }
+            return count;
+        }
+    }
+
     public static class LabyrinthPiece extends TemplateStructurePiece {
+        private long labyrinthId = ChunkPos.INVALID_CHUNK_POS;
 
         public LabyrinthPiece(StructureTemplateManager manager, ResourceLocation location,
                               BlockPos pos, Rotation rotation, int yOffset) {
@@ -420,6 +493,13 @@ public class MinotaursLabyrinthPieces {
         public LabyrinthPiece(StructurePieceSerializationContext context, CompoundTag tag) {
             super(ModStructurePieces.MINOTAUR_LABYRINTH_PIECE.get(), tag, context.structureTemplateManager(),
                     (location) -> makeSettings(Rotation.valueOf(tag.getString("Rotation"))));
+            if (tag.contains("LabyrinthId", Tag.TAG_LONG)) {
+                this.labyrinthId = tag.getLong("LabyrinthId");
+            }
+        }
+
+        public void setLabyrinthId(long labyrinthId) {
+            this.labyrinthId = labyrinthId;
         }
 
         private static StructurePlaceSettings makeSettings(Rotation rotation) {
@@ -440,6 +520,7 @@ public class MinotaursLabyrinthPieces {
                     MinotaurEntity minotaur = ModEntityTypes.MINOTAUR.get().create(level.getLevel());
                     if (minotaur != null) {
                         minotaur.moveTo(pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, 0, 0);
+                        minotaur.setLabyrinthId(this.labyrinthId);
                         boolean success = level.addFreshEntity(minotaur);
                         
                         if (success) {
@@ -453,10 +534,32 @@ public class MinotaursLabyrinthPieces {
             }
         }
 
+        // Open sides of this cell as Direction bits. Entrances lead up into the hatch or well above
+        // them, hatches and the well lead down; LabyrinthLayout only links cells that agree.
+        public int getConnectionMask() {
+            ResourceLocation location = this.makeTemplateLocation();
+            Set<Direction> connections = PIECE_CONNECTIONS.get(location);
+            if (connections == null) {
+                return 0;
+            }
+
+            int mask = 0;
+            for (Direction dir : getRotatedConnections(connections, this.placeSettings.getRotation())) {
+                mask |= 1 << dir.ordinal();
+            }
+            if (location.equals(ENTRANCE)) {
+                mask |= 1 << Direction.UP.ordinal();
+            } else if (location.equals(END_HATCH) || location.equals(WELL)) {
+                mask |= 1 << Direction.DOWN.ordinal();
+            }
+            return mask;
+        }
+
         @Override
         protected void addAdditionalSaveData(StructurePieceSerializationContext context, CompoundTag tag) {
             super.addAdditionalSaveData(context, tag);
             tag.putString("Rotation", this.placeSettings.getRotation().name());
+            tag.putLong("LabyrinthId", this.labyrinthId);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.github.sajmon.labyrythm.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinotaurDashMotionTest {
+    // MinotaurEntity.DASH_FORCE, and the distance at which the server re-sends the trajectory
+    private static final double DASH_SPEED = 2.5D;
+    private static final double CORRECTION_DISTANCE = 1.0D;
+
+    @Test
+    void flatLaunchFollowsVanillaTravel() {
+        FlatFloorMob mob = FlatFloorMob.standing();
+        mob.vx = DASH_SPEED;
+
+        for (int tick = 1; tick <= 40; tick++) {
+            mob.tick();
+            assertEquals(DASH_SPEED * MinotaurDashMotion.travelFactor(tick), mob.x, 1.0E-4D, "tick " + tick);
+        }
+    }
+
+    @Test
+    void hopLaunchFallsOffThePrediction() {
+        FlatFloorMob mob = FlatFloorMob.standing();
+        mob.vx = DASH_SPEED;
+        mob.vy = 0.1D;
+
+        for (int tick = 1; tick <= 4; tick++) {
+            mob.tick();
+        }
+        assertTrue(Math.abs(mob.x - DASH_SPEED * MinotaurDashMotion.travelFactor(4)) > CORRECTION_DISTANCE);
+    }
+
+    // One axis of LivingEntity.travel over a flat floor at y = 0 with no movement input: drag is
+    // picked from onGround at the start of the tick, then the mob moves, lands, and gravity and
+    // drag are applied to what is left of its velocity
+    private static class FlatFloorMob {
+        private static final float BLOCK_FRICTION = 0.6F;
+        private static final double GRAVITY = 0.08D;
+
+        double x;
+        double y;
+        double vx;
+        double vy;
+        boolean onGround = true;
+
+        static FlatFloorMob standing() {
+            FlatFloorMob mob = new FlatFloorMob();
+            // Settles into the small downward velocity a mob keeps while standing
+            for (int i = 0; i < 5; i++) {
+                mob.tick();
+            }
+            mob.x = 0.0D;
+            return mob;
+        }
+
+        void tick() {
+            float drag = this.onGround ? BLOCK_FRICTION * 0.91F : 0.91F;
+
+            this.x += this.vx;
+            if (this.vy < 0.0D && this.y + this.vy <= 0.0D) {
+                this.y = 0.0D;
+                this.vy = 0.0D;
+                this.onGround = true;
+            } else {
+                this.y += this.vy;
+                this.onGround = false;
+            }
+
+            this.vx *= drag;
+            this.vy = (this.vy - GRAVITY) * 0.98D;
+        }
+    }
+}